@@ -0,0 +1,75 @@
+package com.sparta.testcode.benchmark;
+
+import org.openjdk.jmh.annotations.*;
+import org.springframework.core.task.SimpleAsyncTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JDBC 호출처럼 대부분을 블로킹으로 보내는 요청을 플랫폼 스레드 풀과 가상 스레드에서 처리할 때의 비교.
+ * platform 은 Tomcat 기본값과 같은 200 개 스레드 풀이고, virtual 은 작업마다 가상 스레드를 만든다.
+ * virtual 은 Java 21 이상이 필요하다. ./gradlew jmh -PjavaVersion=21 -Pjmh.includes=BlockingExecutor
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BlockingExecutorBenchmark {
+
+    private static final int PLATFORM_POOL_SIZE = 200;
+
+    @Param({"platform", "virtual"})
+    private String executorType;
+
+    @Param({"1000"})
+    private int requests;
+
+    @Param({"10"})
+    private long blockingMillis;
+
+    private Executor executor;
+    private ThreadPoolTaskExecutor platformExecutor;
+
+    @Setup
+    public void setUp() {
+        if ("virtual".equals(executorType)) {
+            SimpleAsyncTaskExecutor virtualExecutor = new SimpleAsyncTaskExecutor("bench-virtual-");
+            virtualExecutor.setVirtualThreads(true);
+            executor = virtualExecutor;
+        } else {
+            platformExecutor = new ThreadPoolTaskExecutor();
+            platformExecutor.setCorePoolSize(PLATFORM_POOL_SIZE);
+            platformExecutor.setMaxPoolSize(PLATFORM_POOL_SIZE);
+            platformExecutor.setThreadNamePrefix("bench-platform-");
+            platformExecutor.initialize();
+            executor = platformExecutor;
+        }
+    }
+
+    @TearDown
+    public void tearDown() {
+        if (platformExecutor != null) {
+            platformExecutor.shutdown();
+        }
+    }
+
+    // requests 개의 블로킹 요청을 동시에 보내고 모두 끝날 때까지의 시간
+    @Benchmark
+    public void handleBlockingRequests() throws InterruptedException {
+        CountDownLatch latch = new CountDownLatch(requests);
+        for (int i = 0; i < requests; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(blockingMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                } finally {
+                    latch.countDown();
+                }
+            });
+        }
+        latch.await();
+    }
+}
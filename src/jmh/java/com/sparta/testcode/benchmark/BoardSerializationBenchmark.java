@@ -0,0 +1,66 @@
+package com.sparta.testcode.benchmark;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.entity.Board;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static com.sparta.testcode.benchmark.JwtUtilBenchmark.setField;
+
+/**
+ * 게시글 목록 응답 경로: 엔티티 -> BoardResponseDto 변환과 목록 JSON 직렬화.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class BoardSerializationBenchmark {
+
+    @Param({"20", "100"})
+    private int size;
+
+    private ObjectMapper objectMapper;
+    private List<Board> boards;
+    private List<BoardResponseDto> responses;
+
+    @Setup
+    public void setUp() {
+        // 스프링 부트가 만드는 ObjectMapper 와 같은 기본 설정
+        objectMapper = Jackson2ObjectMapperBuilder.json().build();
+        boards = new ArrayList<>(size);
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < size; i++) {
+            Board board = Board.create("제목" + i, "내용".repeat(50), "작성자" + i);
+            setField(board, "id", (long) i + 1);
+            setField(board, "createdAt", now);
+            setField(board, "updatedAt", now);
+            boards.add(board);
+        }
+        responses = toResponses();
+    }
+
+    @Benchmark
+    public List<BoardResponseDto> toResponses() {
+        List<BoardResponseDto> result = new ArrayList<>(boards.size());
+        for (Board board : boards) {
+            result.add(new BoardResponseDto(board));
+        }
+        return result;
+    }
+
+    @Benchmark
+    public byte[] serialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(responses);
+    }
+
+    @Benchmark
+    public byte[] toResponsesAndSerialize() throws JsonProcessingException {
+        return objectMapper.writeValueAsBytes(toResponses());
+    }
+}
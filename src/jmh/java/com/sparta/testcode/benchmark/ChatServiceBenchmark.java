@@ -0,0 +1,63 @@
+package com.sparta.testcode.benchmark;
+
+import com.sparta.testcode.domain.chat.dto.ChatRoomDto;
+import com.sparta.testcode.domain.chat.dto.ChatRoomPageDto;
+import com.sparta.testcode.domain.chat.service.ChatService;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 여러 스레드가 동시에 채팅방을 조회하고 일부는 방을 만드는 상황.
+ * lookup 그룹은 조회 7 스레드 + 생성 1 스레드로 경합을 만든다.
+ */
+@State(Scope.Group)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class ChatServiceBenchmark {
+
+    private static final int ROOM_COUNT = 1000;
+
+    private ChatService chatService;
+    private String[] roomIds;
+
+    @Setup(Level.Iteration)
+    public void setUp() {
+        // 저장소는 chat.room.persistent=false 일 때 사용되지 않는다
+        chatService = new ChatService(null, false);
+        roomIds = new String[ROOM_COUNT];
+        for (int i = 0; i < ROOM_COUNT; i++) {
+            roomIds[i] = chatService.createRoom("방" + i).getRoomId();
+        }
+    }
+
+    @Benchmark
+    @Group("lookup")
+    @GroupThreads(7)
+    public ChatRoomDto findRoomById() {
+        return chatService.findRoomById(roomIds[ThreadLocalRandom.current().nextInt(ROOM_COUNT)]);
+    }
+
+    @Benchmark
+    @Group("lookup")
+    @GroupThreads(1)
+    public ChatRoomDto createRoom() {
+        return chatService.createRoom("방");
+    }
+
+    @Benchmark
+    @Group("listing")
+    @GroupThreads(7)
+    public ChatRoomPageDto findRooms() {
+        return chatService.findRooms(roomIds[ThreadLocalRandom.current().nextInt(ROOM_COUNT)], 20);
+    }
+
+    @Benchmark
+    @Group("listing")
+    @GroupThreads(1)
+    public List<ChatRoomDto> findAllRoom() {
+        return chatService.findAllRoom();
+    }
+}
@@ -0,0 +1,57 @@
+package com.sparta.testcode.benchmark;
+
+import com.sparta.testcode.global.jwt.JwtUtil;
+import io.jsonwebtoken.Claims;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.util.ReflectionUtils;
+
+import java.lang.reflect.Field;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtil 의 토큰 발급/검증 경로.
+ * cacheMaximumSize 가 0 이면 검증 결과 캐시를 거치지 않고 매번 서명을 검증하는 비용을 잰다.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class JwtUtilBenchmark {
+
+    private static final String SECRET_KEY = "7Iqk7YyM665L7YqU64uV7J2YIOyXlO2ZlCDquZjsqK3goLgg7J207J6F64uI64ukLg==";
+
+    @Param({"0", "10000"})
+    private long cacheMaximumSize;
+
+    private JwtUtil jwtUtil;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        setField(jwtUtil, "secretKey", SECRET_KEY);
+        setField(jwtUtil, "cacheMaximumSize", cacheMaximumSize);
+        jwtUtil.init();
+        token = jwtUtil.createToken("username").substring(JwtUtil.BEARER_PREFIX.length());
+    }
+
+    @Benchmark
+    public String createToken() {
+        return jwtUtil.createToken("username");
+    }
+
+    @Benchmark
+    public boolean validateToken() {
+        return jwtUtil.validateToken(token);
+    }
+
+    @Benchmark
+    public Claims getUserInfoFromToken() {
+        return jwtUtil.getUserInfoFromToken(token);
+    }
+
+    static void setField(Object target, String name, Object value) {
+        Field field = ReflectionUtils.findField(target.getClass(), name);
+        ReflectionUtils.makeAccessible(field);
+        ReflectionUtils.setField(field, target, value);
+    }
+}
@@ -0,0 +1,38 @@
+package com.sparta.testcode.benchmark;
+
+import com.sparta.testcode.domain.user.entity.User;
+import com.sparta.testcode.domain.user.entity.UserRoleEnum;
+import com.sparta.testcode.global.security.UserDetailsImpl;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.security.core.GrantedAuthority;
+
+import java.util.Collection;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 인증 필터가 요청마다 호출하는 UserDetailsImpl 생성과 getAuthorities.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class UserDetailsBenchmark {
+
+    private User user;
+    private UserDetailsImpl userDetails;
+
+    @Setup
+    public void setUp() {
+        user = User.create("username", "password", UserRoleEnum.USER);
+        userDetails = UserDetailsImpl.from(user);
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> getAuthorities() {
+        return userDetails.getAuthorities();
+    }
+
+    @Benchmark
+    public Collection<? extends GrantedAuthority> createAndGetAuthorities() {
+        return UserDetailsImpl.from(user).getAuthorities();
+    }
+}
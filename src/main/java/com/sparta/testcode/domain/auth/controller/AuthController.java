@@ -1,6 +1,7 @@
 package com.sparta.testcode.domain.auth.controller;
 
 import com.sparta.testcode.domain.auth.dto.LoginRequestDto;
+import com.sparta.testcode.domain.auth.dto.TokenDto;
 import com.sparta.testcode.domain.auth.service.AuthService;
 import com.sparta.testcode.global.jwt.JwtUtil;
 import jakarta.servlet.http.HttpServletResponse;
@@ -8,6 +9,7 @@ import lombok.RequiredArgsConstructor;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RestController;
 
@@ -20,8 +22,24 @@ public class AuthController {
 
     @PostMapping("/login")
     public ResponseEntity<Void> login(@RequestBody LoginRequestDto requestDto, HttpServletResponse response) {
-        String token = authService.login(requestDto);
-        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, token);
+        addTokenHeaders(response, authService.login(requestDto));
         return ResponseEntity.ok().build();
     }
+
+    @PostMapping("/refresh")
+    public ResponseEntity<Void> refresh(@RequestHeader(JwtUtil.REFRESH_TOKEN_HEADER) String refreshToken, HttpServletResponse response) {
+        addTokenHeaders(response, authService.refresh(refreshToken));
+        return ResponseEntity.ok().build();
+    }
+
+    @PostMapping("/logout")
+    public ResponseEntity<Void> logout(@RequestHeader(JwtUtil.REFRESH_TOKEN_HEADER) String refreshToken) {
+        authService.logout(refreshToken);
+        return ResponseEntity.noContent().build();
+    }
+
+    private void addTokenHeaders(HttpServletResponse response, TokenDto token) {
+        response.addHeader(JwtUtil.AUTHORIZATION_HEADER, token.getAccessToken());
+        response.addHeader(JwtUtil.REFRESH_TOKEN_HEADER, token.getRefreshToken());
+    }
 }
@@ -0,0 +1,59 @@
+package com.sparta.testcode.domain.auth.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰. 원문은 저장하지 않고 SHA-256 다이제스트로만 찾는다.
+ * 같은 로그인에서 회전되어 나온 토큰은 familyId 를 공유하며, familyId 는 액세스 토큰의 sid 클레임과 같다.
+ */
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "refresh_token",
+        indexes = {
+                @Index(name = "idx_refresh_token_family_id", columnList = "family_id"),
+                @Index(name = "idx_refresh_token_revoked_at", columnList = "revoked_at"),
+                @Index(name = "idx_refresh_token_expires_at", columnList = "expires_at")
+        },
+        uniqueConstraints = @UniqueConstraint(name = "uk_refresh_token_hash", columnNames = "token_hash"))
+public class RefreshToken {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "token_hash", nullable = false, length = 64)
+    private String tokenHash;
+
+    @Column(name = "family_id", nullable = false, length = 36)
+    private String familyId;
+
+    @Column(nullable = false)
+    private String username;
+
+    @Column(name = "expires_at", nullable = false)
+    private LocalDateTime expiresAt;
+
+    // 회전에 한 번 쓰인 시각, 다시 쓰이면 탈취로 보고 계열 전체를 폐기한다
+    @Column(name = "used_at")
+    private LocalDateTime usedAt;
+
+    @Column(name = "revoked_at")
+    private LocalDateTime revokedAt;
+
+    public RefreshToken(String tokenHash, String familyId, String username, LocalDateTime expiresAt) {
+        this.tokenHash = tokenHash;
+        this.familyId = familyId;
+        this.username = username;
+        this.expiresAt = expiresAt;
+    }
+
+    public boolean isUsable(LocalDateTime now) {
+        return revokedAt == null && expiresAt.isAfter(now);
+    }
+}
@@ -0,0 +1,32 @@
+package com.sparta.testcode.domain.auth.repository;
+
+import com.sparta.testcode.domain.auth.entity.RefreshToken;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+public interface RefreshTokenRepository extends JpaRepository<RefreshToken, Long> {
+
+    Optional<RefreshToken> findByTokenHash(String tokenHash);
+
+    // 아직 쓰이지 않은 경우에만 사용 처리한다, 동시에 같은 토큰으로 회전하면 하나만 1 을 받는다
+    @Modifying
+    @Query("update RefreshToken r set r.usedAt = :now where r.id = :id and r.usedAt is null")
+    int markUsed(@Param("id") Long id, @Param("now") LocalDateTime now);
+
+    @Modifying
+    @Query("update RefreshToken r set r.revokedAt = :now where r.familyId = :familyId and r.revokedAt is null")
+    int revokeFamily(@Param("familyId") String familyId, @Param("now") LocalDateTime now);
+
+    @Query("select distinct r.familyId from RefreshToken r where r.revokedAt > :since")
+    List<String> findFamilyIdsRevokedSince(@Param("since") LocalDateTime since);
+
+    @Modifying
+    @Query("delete from RefreshToken r where r.expiresAt < :now or r.revokedAt < :revokedBefore")
+    int deleteExpiredOrRevokedBefore(@Param("now") LocalDateTime now, @Param("revokedBefore") LocalDateTime revokedBefore);
+}
@@ -1,34 +1,41 @@
 package com.sparta.testcode.domain.auth.service;
 
 import com.sparta.testcode.domain.auth.dto.LoginRequestDto;
+import com.sparta.testcode.domain.auth.dto.TokenDto;
 import com.sparta.testcode.domain.user.entity.User;
 import com.sparta.testcode.domain.user.repository.UserRepository;
-import com.sparta.testcode.global.jwt.JwtUtil;
 import lombok.RequiredArgsConstructor;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
 public class AuthService {
 
     private final UserRepository userRepository;
-    private final PasswordEncoder passwordEncoder;
-    private final JwtUtil jwtUtil;
+    private final PasswordVerifier passwordVerifier;
+    private final RefreshTokenService refreshTokenService;
 
-    @Transactional(readOnly = true)
-    public String login(LoginRequestDto requestDto) {
+    // BCrypt 검증 동안 DB 커넥션을 붙잡지 않도록 서비스 트랜잭션을 열지 않는다
+    public TokenDto login(LoginRequestDto requestDto) {
         String username = requestDto.getUsername();
         String password = requestDto.getPassword();
 
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new IllegalArgumentException("유저를 찾을 수 없습니다"));
 
-        if (!passwordEncoder.matches(password, user.getPassword())) {
+        if (!passwordVerifier.matches(password, user.getPassword())) {
             throw new IllegalArgumentException("비밀번호 오류");
         }
 
-        return jwtUtil.createToken(user.getUsername());
+        return refreshTokenService.issue(user.getUsername());
+    }
+
+    // 액세스 토큰 만료 시 BCrypt 검증 없이 리프레시 토큰을 회전해 새 토큰 쌍을 받는다
+    public TokenDto refresh(String refreshToken) {
+        return refreshTokenService.rotate(refreshToken);
+    }
+
+    public void logout(String refreshToken) {
+        refreshTokenService.revoke(refreshToken);
     }
 }
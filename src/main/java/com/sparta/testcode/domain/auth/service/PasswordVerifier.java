@@ -0,0 +1,107 @@
+package com.sparta.testcode.domain.auth.service;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+/**
+ * BCrypt 비밀번호 검증을 코어 수 크기의 전용 스레드 풀에서 수행한다.
+ * 대기열이 가득 차면 즉시 TaskRejectedException 을 던져 로그인 폭주가 다른 API 의 CPU 를 잠식하지 않도록 한다.
+ */
+@Component
+public class PasswordVerifier implements DisposableBean {
+
+    private final PasswordEncoder passwordEncoder;
+    private final ThreadPoolTaskExecutor executor;
+    private final Duration timeout;
+    private final Timer waitTimer;
+    private final Timer verificationTimer;
+    private final Counter rejectedCounter;
+
+    public PasswordVerifier(PasswordEncoder passwordEncoder,
+                            MeterRegistry meterRegistry,
+                            @Value("${auth.login.pool-size:0}") int poolSize,
+                            @Value("${auth.login.queue-capacity:64}") int queueCapacity,
+                            @Value("${auth.login.timeout:5s}") Duration timeout) {
+        this.passwordEncoder = passwordEncoder;
+        this.timeout = timeout;
+
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        this.executor = new ThreadPoolTaskExecutor();
+        executor.setCorePoolSize(threads);
+        executor.setMaxPoolSize(threads);
+        executor.setQueueCapacity(queueCapacity);
+        executor.setThreadNamePrefix("login-verify-");
+        executor.initialize();
+
+        Gauge.builder("auth.login.queue.size", executor, e -> e.getThreadPoolExecutor().getQueue().size())
+                .description("BCrypt 검증 대기 중인 로그인 요청 수")
+                .register(meterRegistry);
+        Gauge.builder("auth.login.active", executor, ThreadPoolTaskExecutor::getActiveCount)
+                .description("BCrypt 검증 중인 로그인 요청 수")
+                .register(meterRegistry);
+        this.waitTimer = Timer.builder("auth.login.wait")
+                .description("검증 스레드를 기다린 시간")
+                .register(meterRegistry);
+        this.verificationTimer = Timer.builder("auth.login.verification")
+                .description("BCrypt 검증에 걸린 시간")
+                .register(meterRegistry);
+        this.rejectedCounter = Counter.builder("auth.login.rejected")
+                .description("대기열 초과 또는 시간 초과로 거절된 로그인 요청 수")
+                .register(meterRegistry);
+    }
+
+    public boolean matches(String rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                waitTimer.record(startedAt - submittedAt, TimeUnit.NANOSECONDS);
+                try {
+                    return passwordEncoder.matches(rawPassword, encodedPassword);
+                } finally {
+                    verificationTimer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
+                }
+            });
+        } catch (TaskRejectedException e) {
+            rejectedCounter.increment();
+            throw e;
+        }
+
+        try {
+            return future.get(timeout.toMillis(), TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            rejectedCounter.increment();
+            throw new TaskRejectedException("로그인 검증 대기 시간이 초과되었습니다.", e);
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("로그인 검증이 중단되었습니다.", e);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    @Override
+    public void destroy() {
+        executor.shutdown();
+    }
+}
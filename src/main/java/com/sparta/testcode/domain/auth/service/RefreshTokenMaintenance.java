@@ -0,0 +1,89 @@
+package com.sparta.testcode.domain.auth.service;
+
+import com.sparta.testcode.global.jwt.JwtUtil;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDateTime;
+
+/**
+ * 리프레시 토큰 백그라운드 작업.
+ * 시작할 때 액세스 토큰 유효 기간 안에 폐기된 세션을 불러오고, 이후 poll-interval 마다 새로 폐기된 세션을 읽어
+ * 다른 노드에서 폐기된 세션의 액세스 토큰도 이 노드에서 곧바로 거절되게 한다.
+ * cleanup-interval 마다 더 이상 필요 없는 refresh_token 행을 지운다.
+ */
+@Slf4j
+@Component
+public class RefreshTokenMaintenance implements DisposableBean {
+
+    // 노드 간 시계 차이와 replica 복제 지연을 덮도록 이전 조회 시점보다 이만큼 앞에서부터 다시 읽는다
+    static final Duration POLL_OVERLAP = Duration.ofSeconds(30);
+
+    private final RefreshTokenService refreshTokenService;
+    private final JwtUtil jwtUtil;
+    private final Duration pollInterval;
+    private final Duration cleanupInterval;
+    private final ThreadPoolTaskScheduler scheduler;
+    private volatile LocalDateTime lastSyncedAt;
+
+    public RefreshTokenMaintenance(RefreshTokenService refreshTokenService,
+                                   JwtUtil jwtUtil,
+                                   @Value("${jwt.revocation.poll-interval:5s}") Duration pollInterval,
+                                   @Value("${jwt.refresh.cleanup-interval:1h}") Duration cleanupInterval) {
+        this.refreshTokenService = refreshTokenService;
+        this.jwtUtil = jwtUtil;
+        this.pollInterval = pollInterval;
+        this.cleanupInterval = cleanupInterval;
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(1);
+        scheduler.setThreadNamePrefix("refresh-token-");
+        scheduler.initialize();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void start() {
+        LocalDateTime now = LocalDateTime.now();
+        int loaded = refreshTokenService.syncRevokedSessions(now.minus(jwtUtil.getTokenTime()));
+        lastSyncedAt = now;
+        log.info("폐기된 세션 {}개를 불러왔습니다.", loaded);
+
+        Instant startAt = Instant.now();
+        scheduler.scheduleWithFixedDelay(this::syncRevokedSessions, startAt.plus(pollInterval), pollInterval);
+        scheduler.scheduleWithFixedDelay(this::purgeExpired, startAt.plus(cleanupInterval), cleanupInterval);
+    }
+
+    void syncRevokedSessions() {
+        LocalDateTime now = LocalDateTime.now();
+        try {
+            int synced = refreshTokenService.syncRevokedSessions(lastSyncedAt.minus(POLL_OVERLAP));
+            lastSyncedAt = now;
+            log.debug("폐기된 세션 {}개를 동기화했습니다.", synced);
+        } catch (RuntimeException e) {
+            // 다음 주기에 같은 시점부터 다시 읽는다
+            log.warn("폐기된 세션 동기화 실패", e);
+        }
+    }
+
+    void purgeExpired() {
+        try {
+            int deleted = refreshTokenService.purgeExpired(LocalDateTime.now());
+            if (deleted > 0) {
+                log.info("만료되거나 폐기된 리프레시 토큰 {}개를 지웠습니다.", deleted);
+            }
+        } catch (RuntimeException e) {
+            log.warn("리프레시 토큰 정리 실패", e);
+        }
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+}
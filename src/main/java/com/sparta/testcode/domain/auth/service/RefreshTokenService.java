@@ -0,0 +1,129 @@
+package com.sparta.testcode.domain.auth.service;
+
+import com.sparta.testcode.domain.auth.dto.TokenDto;
+import com.sparta.testcode.domain.auth.entity.RefreshToken;
+import com.sparta.testcode.domain.auth.repository.RefreshTokenRepository;
+import com.sparta.testcode.global.jwt.JwtUtil;
+import com.sparta.testcode.global.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.util.StringUtils;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.security.SecureRandom;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.Base64;
+import java.util.List;
+import java.util.UUID;
+
+/**
+ * 한 번만 쓸 수 있는 리프레시 토큰을 발급하고 회전한다.
+ * 이미 쓰인 토큰이 다시 들어오면 탈취된 것으로 보고 그 로그인 세션(계열) 전체를 폐기한다.
+ * 폐기된 세션은 JwtUtil 의 메모리 폐기 목록에도 올려 남은 액세스 토큰까지 바로 거절되게 한다.
+ * 폐기 목록은 노드마다 따로 가지므로, RefreshTokenMaintenance 가 시작할 때와 짧은 주기로 최근 폐기된 세션을 DB 에서 읽어 온다.
+ */
+@Slf4j
+@Service
+public class RefreshTokenService {
+
+    private static final int TOKEN_BYTES = 32;
+    private static final String INVALID_TOKEN_MESSAGE = "유효하지 않은 리프레시 토큰입니다.";
+
+    private final RefreshTokenRepository refreshTokenRepository;
+    private final JwtUtil jwtUtil;
+    private final Duration refreshTokenTtl;
+    private final SecureRandom secureRandom = new SecureRandom();
+
+    public RefreshTokenService(RefreshTokenRepository refreshTokenRepository,
+                               JwtUtil jwtUtil,
+                               @Value("${jwt.refresh.ttl:14d}") Duration refreshTokenTtl) {
+        this.refreshTokenRepository = refreshTokenRepository;
+        this.jwtUtil = jwtUtil;
+        this.refreshTokenTtl = refreshTokenTtl;
+    }
+
+    @Transactional
+    public TokenDto issue(String username) {
+        return issue(username, UUID.randomUUID().toString());
+    }
+
+    // 재사용이 감지되면 계열 폐기를 커밋해야 하므로 IllegalArgumentException 으로는 롤백하지 않는다
+    @Transactional(noRollbackFor = IllegalArgumentException.class)
+    public TokenDto rotate(String rawToken) {
+        LocalDateTime now = LocalDateTime.now();
+        RefreshToken refreshToken = findToken(rawToken);
+        if (!refreshToken.isUsable(now)) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE);
+        }
+        if (refreshTokenRepository.markUsed(refreshToken.getId(), now) == 0) {
+            log.warn("리프레시 토큰 재사용 감지, 세션을 폐기합니다. username={}, sid={}", refreshToken.getUsername(), refreshToken.getFamilyId());
+            revokeFamily(refreshToken.getFamilyId(), now);
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE);
+        }
+        return issue(refreshToken.getUsername(), refreshToken.getFamilyId());
+    }
+
+    @Transactional
+    public void revoke(String rawToken) {
+        RefreshToken refreshToken = findToken(rawToken);
+        revokeFamily(refreshToken.getFamilyId(), LocalDateTime.now());
+    }
+
+    /**
+     * since 이후 폐기된 세션을 메모리 폐기 목록에 올린다. 다른 노드에서 폐기된 세션도 이 조회로 전파된다.
+     */
+    @Transactional(readOnly = true)
+    public int syncRevokedSessions(LocalDateTime since) {
+        List<String> familyIds = refreshTokenRepository.findFamilyIdsRevokedSince(since);
+        familyIds.forEach(jwtUtil::revokeSession);
+        return familyIds.size();
+    }
+
+    /**
+     * 만료된 토큰과, 그 세션의 액세스 토큰까지 모두 만료될 만큼 오래전에 폐기된 토큰을 지운다.
+     * 쓰인 토큰은 재사용 감지에 필요하므로 만료 전에는 남겨 둔다.
+     */
+    @Transactional
+    public int purgeExpired(LocalDateTime now) {
+        return refreshTokenRepository.deleteExpiredOrRevokedBefore(now, now.minus(jwtUtil.getTokenTime()));
+    }
+
+    private TokenDto issue(String username, String familyId) {
+        String rawToken = generateToken();
+        refreshTokenRepository.save(new RefreshToken(hash(rawToken), familyId, username, LocalDateTime.now().plus(refreshTokenTtl)));
+        return new TokenDto(jwtUtil.createToken(username, familyId), rawToken);
+    }
+
+    private void revokeFamily(String familyId, LocalDateTime now) {
+        refreshTokenRepository.revokeFamily(familyId, now);
+        TransactionUtils.runAfterCommit(() -> jwtUtil.revokeSession(familyId));
+    }
+
+    private RefreshToken findToken(String rawToken) {
+        if (!StringUtils.hasText(rawToken)) {
+            throw new IllegalArgumentException(INVALID_TOKEN_MESSAGE);
+        }
+        return refreshTokenRepository.findByTokenHash(hash(rawToken))
+                .orElseThrow(() -> new IllegalArgumentException(INVALID_TOKEN_MESSAGE));
+    }
+
+    private String generateToken() {
+        byte[] bytes = new byte[TOKEN_BYTES];
+        secureRandom.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes);
+    }
+
+    private String hash(String rawToken) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(rawToken.getBytes(StandardCharsets.UTF_8));
+            return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
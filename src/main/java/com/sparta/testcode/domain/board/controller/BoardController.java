@@ -1,12 +1,24 @@
 package com.sparta.testcode.domain.board.controller;
 
+import com.sparta.testcode.domain.board.dto.BoardBulkRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardBulkResponseDto;
 import com.sparta.testcode.domain.board.dto.BoardRequestDto;
 import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSummarySliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardVersion;
+import com.sparta.testcode.domain.board.service.BoardBulkService;
+import com.sparta.testcode.domain.board.service.BoardExportService;
 import com.sparta.testcode.domain.board.service.BoardService;
+import com.sparta.testcode.domain.board.service.BoardUpdateFacade;
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 
+import java.io.IOException;
 import java.util.List;
 
 @RestController
@@ -14,26 +26,81 @@ import java.util.List;
 @RequiredArgsConstructor
 public class BoardController {
 
+    private static final String NDJSON_CONTENT_TYPE = "application/x-ndjson";
+
     private final BoardService boardService;
+    private final BoardExportService boardExportService;
+    private final BoardBulkService boardBulkService;
+    private final BoardUpdateFacade boardUpdateFacade;
 
     @PostMapping
     public ResponseEntity<BoardResponseDto> createBoard(@RequestBody BoardRequestDto requestDto) {
         return ResponseEntity.ok(boardService.createBoard(requestDto));
     }
 
+    @PostMapping("/bulk")
+    public ResponseEntity<BoardBulkResponseDto> processBulk(@RequestBody BoardBulkRequestDto requestDto) {
+        return ResponseEntity.ok(boardBulkService.process(requestDto));
+    }
+
+    // If-None-Match / If-Modified-Since 가 현재 버전과 같으면 본문 없이 304 를 보낸다
+    // ETag 는 응답할 본문에서 계산해 두 값이 서로 다른 시점의 게시글을 가리키지 않게 한다
     @GetMapping("/{id}")
-    public ResponseEntity<BoardResponseDto> getBoard(@PathVariable Long id) {
-        return ResponseEntity.ok(boardService.getBoard(id));
+    public ResponseEntity<BoardResponseDto> getBoard(@PathVariable Long id, WebRequest webRequest) {
+        BoardResponseDto board = boardService.getBoard(id);
+        BoardVersion version = BoardVersion.of(board.getId(), board.getVersion(), board.getUpdatedAt());
+        if (webRequest.checkNotModified(version.getEtag(), version.getLastModified())) {
+            return null;
+        }
+        return ResponseEntity.ok(board);
     }
 
     @GetMapping
-    public ResponseEntity<List<BoardResponseDto>> getAllBoards() {
+    public ResponseEntity<List<BoardResponseDto>> getAllBoards(WebRequest webRequest) {
+        BoardVersion version = boardService.getBoardsVersion();
+        if (webRequest.checkNotModified(version.getEtag())) {
+            return null;
+        }
         return ResponseEntity.ok(boardService.getAllBoards());
     }
 
+    @GetMapping("/scroll")
+    public ResponseEntity<BoardSliceResponseDto> getBoardsByCursor(@RequestParam(required = false) String cursor,
+                                                                   @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.getBoardsByCursor(cursor, size));
+    }
+
+    // 목록 화면용 요약, preview 에 글자 수를 주면 본문 앞부분을 함께 내려준다
+    @GetMapping("/summaries")
+    public ResponseEntity<BoardSummarySliceResponseDto> getBoardSummaries(@RequestParam(required = false) String cursor,
+                                                                          @RequestParam(defaultValue = "20") int size,
+                                                                          @RequestParam(defaultValue = "0") int preview) {
+        return ResponseEntity.ok(boardService.getBoardSummaries(cursor, size, preview));
+    }
+
+    @GetMapping("/search")
+    public ResponseEntity<List<BoardResponseDto>> searchBoards(@RequestParam String q,
+                                                               @RequestParam(defaultValue = "20") int size) {
+        return ResponseEntity.ok(boardService.searchBoards(q, size));
+    }
+
+    @GetMapping("/export")
+    public void exportBoards(HttpServletResponse response) throws IOException {
+        response.setContentType(NDJSON_CONTENT_TYPE);
+        response.setCharacterEncoding("UTF-8");
+        boardExportService.exportBoards(response.getOutputStream());
+    }
+
+    // If-Match 가 있으면 그 version 일 때만 수정하고, 다르면 409 와 함께 현재 상태를 돌려준다
     @PutMapping("/{id}")
-    public ResponseEntity<BoardResponseDto> updateBoard(@PathVariable Long id, @RequestBody BoardRequestDto requestDto) {
-        return ResponseEntity.ok(boardService.updateBoard(id, requestDto));
+    public ResponseEntity<BoardResponseDto> updateBoard(@PathVariable Long id,
+                                                        @RequestHeader(value = HttpHeaders.IF_MATCH, required = false) String ifMatch,
+                                                        @RequestBody BoardRequestDto requestDto) {
+        Long expectedVersion = BoardVersion.parseVersion(id, ifMatch);
+        BoardResponseDto updated = boardUpdateFacade.updateBoard(id, requestDto, expectedVersion);
+        return ResponseEntity.ok()
+                .eTag(BoardVersion.of(updated.getId(), updated.getVersion(), updated.getUpdatedAt()).getEtag())
+                .body(updated);
     }
 
     @DeleteMapping("/{id}")
@@ -0,0 +1,29 @@
+package com.sparta.testcode.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardBulkRequestDto {
+    private List<Item> items;
+
+    public enum Operation {
+        CREATE, UPDATE, DELETE
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Item {
+        private Operation operation;
+        // UPDATE, DELETE 대상
+        private Long id;
+        // CREATE, UPDATE 내용
+        private BoardRequestDto board;
+    }
+}
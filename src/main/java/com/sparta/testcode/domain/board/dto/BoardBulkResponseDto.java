@@ -0,0 +1,40 @@
+package com.sparta.testcode.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardBulkResponseDto {
+    private int succeeded;
+    private int failed;
+    // 요청 items 와 같은 순서
+    private List<Result> results;
+
+    public enum Status {
+        SUCCESS, FAILED
+    }
+
+    @Getter
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Result {
+        private int index;
+        private BoardBulkRequestDto.Operation operation;
+        private Long id;
+        private Status status;
+        private String message;
+
+        public static Result success(int index, BoardBulkRequestDto.Operation operation, Long id) {
+            return new Result(index, operation, id, Status.SUCCESS, null);
+        }
+
+        public static Result failure(int index, BoardBulkRequestDto.Operation operation, Long id, String message) {
+            return new Result(index, operation, id, Status.FAILED, message);
+        }
+    }
+}
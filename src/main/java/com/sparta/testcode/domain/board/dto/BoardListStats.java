@@ -0,0 +1,9 @@
+package com.sparta.testcode.domain.board.dto;
+
+public interface BoardListStats {
+    long getTotal();
+
+    Long getMaxId();
+
+    Long getVersionSum();
+}
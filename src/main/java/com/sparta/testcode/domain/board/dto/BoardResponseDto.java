@@ -15,6 +15,7 @@ public class BoardResponseDto {
     private String author;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private Long version;
 
     public BoardResponseDto(Board board) {
         this.id = board.getId();
@@ -23,5 +24,6 @@ public class BoardResponseDto {
         this.author = board.getAuthor();
         this.createdAt = board.getCreatedAt();
         this.updatedAt = board.getUpdatedAt();
+        this.version = board.getVersion();
     }
 }
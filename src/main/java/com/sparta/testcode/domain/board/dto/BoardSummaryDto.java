@@ -0,0 +1,36 @@
+package com.sparta.testcode.domain.board.dto;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+/**
+ * 게시글 목록용 요약. BoardRepository 의 생성자 projection 으로 바로 만들어지며 content 전체는 읽지 않는다.
+ */
+@Getter
+@NoArgsConstructor
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class BoardSummaryDto {
+    private Long id;
+    private String title;
+    private String author;
+    private LocalDateTime createdAt;
+    private LocalDateTime updatedAt;
+    // 요청한 길이만큼 DB 에서 잘라 온 본문 앞부분, 요청하지 않으면 null
+    private String preview;
+
+    public BoardSummaryDto(Long id, String title, String author, LocalDateTime createdAt, LocalDateTime updatedAt) {
+        this(id, title, author, createdAt, updatedAt, null);
+    }
+
+    public BoardSummaryDto(Long id, String title, String author, LocalDateTime createdAt, LocalDateTime updatedAt, String preview) {
+        this.id = id;
+        this.title = title;
+        this.author = author;
+        this.createdAt = createdAt;
+        this.updatedAt = updatedAt;
+        this.preview = preview;
+    }
+}
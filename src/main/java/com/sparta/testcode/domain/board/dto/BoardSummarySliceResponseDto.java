@@ -0,0 +1,16 @@
+package com.sparta.testcode.domain.board.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class BoardSummarySliceResponseDto {
+    private List<BoardSummaryDto> content;
+    private String nextCursor;
+    private boolean hasNext;
+}
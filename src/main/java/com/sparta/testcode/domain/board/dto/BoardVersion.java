@@ -0,0 +1,53 @@
+package com.sparta.testcode.domain.board.dto;
+
+import lombok.AccessLevel;
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+
+/**
+ * 조건부 요청에 쓰는 게시글(목록) 버전.
+ * etag 는 따옴표를 포함한 strong ETag 이고, lastModified 는 epoch millis 이며 알 수 없으면 -1 이다.
+ */
+@Getter
+@AllArgsConstructor(access = AccessLevel.PRIVATE)
+public class BoardVersion {
+    private final String etag;
+    private final long lastModified;
+
+    public static BoardVersion of(Long id, Long version, LocalDateTime updatedAt) {
+        return new BoardVersion("\"" + id + "-" + version + "\"", epochMillis(updatedAt));
+    }
+
+    // 목록은 삭제를 updatedAt 으로 알 수 없으므로 건수, 최대 id, version 합으로 만들고 Last-Modified 는 쓰지 않는다
+    public static BoardVersion ofList(long count, Long maxId, Long versionSum) {
+        return new BoardVersion("\"list-" + count + "-" + maxId + "-" + versionSum + "\"", -1);
+    }
+
+    /**
+     * If-Match 헤더에서 기준 version 을 꺼낸다. 헤더가 없거나 * 이면 null 을 반환한다.
+     */
+    public static Long parseVersion(Long id, String ifMatch) {
+        if (ifMatch == null || ifMatch.isBlank() || ifMatch.trim().equals("*")) {
+            return null;
+        }
+        // If-Match 는 strong 비교이므로 W/ 로 시작하는 weak ETag 도 잘못된 값으로 본다
+        String etag = ifMatch.trim();
+        String prefix = "\"" + id + "-";
+        if (!etag.startsWith(prefix) || !etag.endsWith("\"") || etag.length() <= prefix.length() + 1) {
+            throw new IllegalArgumentException("잘못된 If-Match 입니다.: " + ifMatch);
+        }
+        try {
+            return Long.parseLong(etag.substring(prefix.length(), etag.length() - 1));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("잘못된 If-Match 입니다.: " + ifMatch);
+        }
+    }
+
+    // 감사(auditing) 시각은 서버 기본 타임존의 LocalDateTime 으로 기록된다
+    private static long epochMillis(LocalDateTime dateTime) {
+        return dateTime != null ? dateTime.atZone(ZoneId.systemDefault()).toInstant().toEpochMilli() : -1;
+    }
+}
@@ -15,10 +15,15 @@ import java.time.LocalDateTime;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @EntityListeners(AuditingEntityListener.class)
+@Table(indexes = @Index(name = "idx_board_created_at_id", columnList = "created_at, id"))
 public class Board {
 
+    public static final int ID_ALLOCATION_SIZE = 50;
+
+    // IDENTITY 는 INSERT 마다 키를 받아와야 해서 JDBC 배치가 꺼지므로, 50 개씩 미리 할당하는 pooled 시퀀스를 쓴다
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "board_seq")
+    @SequenceGenerator(name = "board_seq", sequenceName = "board_seq", allocationSize = ID_ALLOCATION_SIZE)
     private Long id;
 
     @Column(nullable = false)
@@ -31,12 +36,17 @@ public class Board {
     private String author;
 
     @CreatedDate
-    @Column(updatable = false)
+    @Column(name = "created_at", updatable = false)
     private LocalDateTime createdAt;
 
     @LastModifiedDate
     private LocalDateTime updatedAt;
 
+    // 낙관적 락, 수정이 커밋될 때마다 1 씩 증가하며 ETag 로도 쓰인다
+    @Version
+    @Column(nullable = false)
+    private Long version;
+
     private Board(String title, String content, String author) {
         this.title = title;
         this.content = content;
@@ -0,0 +1,18 @@
+package com.sparta.testcode.domain.board.exception;
+
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import lombok.Getter;
+
+/**
+ * 게시글 수정이 다른 수정과 충돌했을 때 발생한다. 응답에 담을 현재 상태를 함께 가진다.
+ */
+@Getter
+public class BoardConflictException extends RuntimeException {
+
+    private final BoardResponseDto current;
+
+    public BoardConflictException(BoardResponseDto current) {
+        super("다른 사용자가 먼저 수정한 게시글입니다.: " + current.getId());
+        this.current = current;
+    }
+}
@@ -1,7 +1,68 @@
 package com.sparta.testcode.domain.board.repository;
 
+import com.sparta.testcode.domain.board.dto.BoardListStats;
+import com.sparta.testcode.domain.board.dto.BoardSummaryDto;
 import com.sparta.testcode.domain.board.entity.Board;
+import jakarta.persistence.QueryHint;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+import static org.hibernate.jpa.HibernateHints.HINT_FETCH_SIZE;
+import static org.hibernate.jpa.HibernateHints.HINT_READ_ONLY;
 
 public interface BoardRepository extends JpaRepository<Board, Long> {
+
+    // 목록 요약 projection, 엔티티를 만들지 않으므로 영속성 컨텍스트를 거치지 않는다
+    String SUMMARY = "new com.sparta.testcode.domain.board.dto.BoardSummaryDto(b.id, b.title, b.author, b.createdAt, b.updatedAt)";
+    String SUMMARY_WITH_PREVIEW = "new com.sparta.testcode.domain.board.dto.BoardSummaryDto(" +
+            "b.id, b.title, b.author, b.createdAt, b.updatedAt, substring(b.content, 1, :previewLength))";
+    String BEFORE_CURSOR = " where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id)";
+    String LATEST_FIRST = " order by b.createdAt desc, b.id desc";
+
+    @Query("select b from Board b order by b.createdAt desc, b.id desc")
+    List<Board> findFirstPage(Pageable pageable);
+
+    @Query("select b from Board b " +
+            "where b.createdAt < :createdAt or (b.createdAt = :createdAt and b.id < :id) " +
+            "order by b.createdAt desc, b.id desc")
+    List<Board> findPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select " + SUMMARY + " from Board b" + LATEST_FIRST)
+    List<BoardSummaryDto> findSummaryFirstPage(Pageable pageable);
+
+    @Query("select " + SUMMARY + " from Board b" + BEFORE_CURSOR + LATEST_FIRST)
+    List<BoardSummaryDto> findSummaryPageBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query("select " + SUMMARY_WITH_PREVIEW + " from Board b" + LATEST_FIRST)
+    List<BoardSummaryDto> findSummaryFirstPageWithPreview(@Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query("select " + SUMMARY_WITH_PREVIEW + " from Board b" + BEFORE_CURSOR + LATEST_FIRST)
+    List<BoardSummaryDto> findSummaryPageBeforeWithPreview(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+                                                           @Param("previewLength") int previewLength, Pageable pageable);
+
+    @Query("select count(b) as total, max(b.id) as maxId, sum(b.version) as versionSum from Board b")
+    BoardListStats findListStats();
+
+    // 검색 색인 재구축용, PK 범위로 잘라 읽는다
+    @QueryHints(@QueryHint(name = HINT_READ_ONLY, value = "true"))
+    @Query("select b from Board b where b.id > :id order by b.id")
+    List<Board> findChunkAfter(@Param("id") Long id, Pageable pageable);
+
+    /**
+     * 전체 게시글을 커서 기반으로 스트리밍 조회한다.
+     * 반드시 트랜잭션 안에서 사용하고, 사용 후 Stream 을 닫아야 한다.
+     */
+    @QueryHints({
+            @QueryHint(name = HINT_FETCH_SIZE, value = "1000"),
+            @QueryHint(name = HINT_READ_ONLY, value = "true")
+    })
+    @Query("select b from Board b order by b.id")
+    Stream<Board> streamAll();
 }
@@ -0,0 +1,162 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.sparta.testcode.domain.board.dto.BoardBulkRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardBulkResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardRequestDto;
+import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.repository.BoardRepository;
+import com.sparta.testcode.global.util.TransactionUtils;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * 게시글 일괄 생성/수정/삭제.
+ * 작업을 chunk-size 개씩 나눠 chunk 마다 트랜잭션 하나로 처리하고, INSERT/UPDATE/DELETE 는
+ * hibernate.jdbc.batch_size 단위의 JDBC 배치로 나간다. 잘못된 작업은 해당 항목만 실패로 기록하고,
+ * DB 오류로 chunk 가 롤백되면 그 chunk 의 항목을 모두 실패로 기록한다.
+ */
+@Slf4j
+@Service
+public class BoardBulkService {
+
+    private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final BoardSearchIndex boardSearchIndex;
+    private final TransactionTemplate transactionTemplate;
+    private final int maxItems;
+    private final int chunkSize;
+
+    public BoardBulkService(BoardRepository boardRepository,
+                            BoardCache boardCache,
+                            BoardSearchIndex boardSearchIndex,
+                            PlatformTransactionManager transactionManager,
+                            @Value("${board.bulk.max-items:10000}") int maxItems,
+                            @Value("${board.bulk.chunk-size:500}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.boardCache = boardCache;
+        this.boardSearchIndex = boardSearchIndex;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.maxItems = maxItems;
+        this.chunkSize = chunkSize;
+    }
+
+    public BoardBulkResponseDto process(BoardBulkRequestDto requestDto) {
+        List<BoardBulkRequestDto.Item> items = requestDto.getItems();
+        if (items == null || items.isEmpty()) {
+            throw new IllegalArgumentException("처리할 작업이 없습니다.");
+        }
+        if (items.size() > maxItems) {
+            throw new IllegalArgumentException("한 번에 처리할 수 있는 작업은 최대 " + maxItems + "건입니다.");
+        }
+
+        BoardBulkResponseDto.Result[] results = new BoardBulkResponseDto.Result[items.size()];
+        for (int from = 0; from < items.size(); from += chunkSize) {
+            processChunk(items, from, Math.min(from + chunkSize, items.size()), results);
+        }
+
+        int succeeded = (int) Arrays.stream(results)
+                .filter(result -> result.getStatus() == BoardBulkResponseDto.Status.SUCCESS)
+                .count();
+        return new BoardBulkResponseDto(succeeded, results.length - succeeded, Arrays.asList(results));
+    }
+
+    private void processChunk(List<BoardBulkRequestDto.Item> items, int from, int to, BoardBulkResponseDto.Result[] results) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> applyChunk(items, from, to, results));
+        } catch (RuntimeException e) {
+            log.warn("게시글 일괄 처리 chunk 롤백: {} ~ {}", from, to - 1, e);
+            for (int i = from; i < to; i++) {
+                if (results[i] == null || results[i].getStatus() == BoardBulkResponseDto.Status.SUCCESS) {
+                    BoardBulkRequestDto.Item item = items.get(i);
+                    results[i] = BoardBulkResponseDto.Result.failure(i, item != null ? item.getOperation() : null,
+                            item != null ? item.getId() : null, "같은 chunk 의 처리 중 오류가 발생해 롤백되었습니다.");
+                }
+            }
+        }
+    }
+
+    private void applyChunk(List<BoardBulkRequestDto.Item> items, int from, int to, BoardBulkResponseDto.Result[] results) {
+        // 수정/삭제 대상은 한 번의 IN 조회로 가져온다
+        Set<Long> targetIds = new HashSet<>();
+        for (int i = from; i < to; i++) {
+            BoardBulkRequestDto.Item item = items.get(i);
+            if (item != null && item.getOperation() != BoardBulkRequestDto.Operation.CREATE && item.getId() != null) {
+                targetIds.add(item.getId());
+            }
+        }
+        Map<Long, Board> boards = boardRepository.findAllById(targetIds).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+
+        List<Board> indexed = new ArrayList<>();
+        List<Long> removed = new ArrayList<>();
+        for (int i = from; i < to; i++) {
+            BoardBulkRequestDto.Item item = items.get(i);
+            if (item == null || item.getOperation() == null) {
+                results[i] = BoardBulkResponseDto.Result.failure(i, null, null, "작업 종류가 없습니다.");
+                continue;
+            }
+            results[i] = switch (item.getOperation()) {
+                case CREATE -> create(i, item, indexed);
+                case UPDATE -> update(i, item, boards, indexed);
+                case DELETE -> delete(i, item, boards, removed);
+            };
+        }
+        // 커밋 전에 배치를 내보내 DB 오류를 이 트랜잭션 안에서 드러낸다
+        boardRepository.flush();
+
+        indexed.forEach(board -> boardCache.evictAfterCommit(board.getId()));
+        removed.forEach(boardCache::evictAfterCommit);
+        TransactionUtils.runAfterCommit(() -> {
+            indexed.forEach(board ->
+                    boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent(), board.getUpdatedAt()));
+            removed.forEach(boardSearchIndex::remove);
+        });
+    }
+
+    private BoardBulkResponseDto.Result create(int index, BoardBulkRequestDto.Item item, List<Board> indexed) {
+        BoardRequestDto requestDto = item.getBoard();
+        if (requestDto == null || requestDto.getTitle() == null || requestDto.getContent() == null || requestDto.getAuthor() == null) {
+            return BoardBulkResponseDto.Result.failure(index, item.getOperation(), null, "제목, 내용, 작성자는 필수입니다.");
+        }
+        Board board = boardRepository.save(Board.create(requestDto.getTitle(), requestDto.getContent(), requestDto.getAuthor()));
+        indexed.add(board);
+        return BoardBulkResponseDto.Result.success(index, item.getOperation(), board.getId());
+    }
+
+    private BoardBulkResponseDto.Result update(int index, BoardBulkRequestDto.Item item, Map<Long, Board> boards, List<Board> indexed) {
+        BoardRequestDto requestDto = item.getBoard();
+        if (requestDto == null || requestDto.getTitle() == null || requestDto.getContent() == null) {
+            return BoardBulkResponseDto.Result.failure(index, item.getOperation(), item.getId(), "제목, 내용은 필수입니다.");
+        }
+        Board board = item.getId() != null ? boards.get(item.getId()) : null;
+        if (board == null) {
+            return BoardBulkResponseDto.Result.failure(index, item.getOperation(), item.getId(), "보드를 찾을 수 없습니다.: " + item.getId());
+        }
+        board.update(requestDto.getTitle(), requestDto.getContent());
+        indexed.add(board);
+        return BoardBulkResponseDto.Result.success(index, item.getOperation(), board.getId());
+    }
+
+    private BoardBulkResponseDto.Result delete(int index, BoardBulkRequestDto.Item item, Map<Long, Board> boards, List<Long> removed) {
+        // 같은 chunk 에서 이미 삭제한 게시글은 찾을 수 없는 것으로 처리한다
+        Board board = item.getId() != null ? boards.remove(item.getId()) : null;
+        if (board == null) {
+            return BoardBulkResponseDto.Result.failure(index, item.getOperation(), item.getId(), "보드를 찾을 수 없습니다.: " + item.getId());
+        }
+        boardRepository.delete(board);
+        removed.add(board.getId());
+        return BoardBulkResponseDto.Result.success(index, item.getOperation(), board.getId());
+    }
+}
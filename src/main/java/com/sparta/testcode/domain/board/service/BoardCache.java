@@ -0,0 +1,48 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.global.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+/**
+ * 게시글 단건 조회용 read-through 캐시.
+ * 크기 제한(W-TinyLFU)과 TTL 로 만료되며, 수정/삭제 시에는 트랜잭션 커밋 이후에만 무효화한다.
+ * 같은 키의 로딩과 무효화는 직렬화되므로 커밋 직전에 읽은 값이 무효화 이후에 남지 않는다.
+ * 적중/실패/제거 수는 cache="board" 태그로 Micrometer 에 노출한다.
+ */
+@Component
+public class BoardCache {
+
+    private final Cache<Long, BoardResponseDto> cache;
+
+    public BoardCache(MeterRegistry meterRegistry,
+                      @Value("${cache.board.maximum-size:10000}") long maximumSize,
+                      @Value("${cache.board.ttl:10m}") Duration ttl) {
+        this.cache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        CaffeineCacheMetrics.monitor(meterRegistry, cache, "board");
+    }
+
+    public BoardResponseDto get(Long id, Function<Long, BoardResponseDto> loader) {
+        return cache.get(id, loader);
+    }
+
+    public BoardResponseDto getIfPresent(Long id) {
+        return cache.getIfPresent(id);
+    }
+
+    public void evictAfterCommit(Long id) {
+        TransactionUtils.runAfterCommit(() -> cache.invalidate(id));
+    }
+}
@@ -0,0 +1,56 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.repository.BoardRepository;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.stream.Stream;
+
+/**
+ * 전체 게시글을 NDJSON(한 줄에 JSON 객체 하나)으로 내보낸다.
+ * 결과를 리스트로 모으지 않고 한 건씩 직렬화해 바로 출력하며,
+ * 일정 건수마다 영속성 컨텍스트를 비워 게시글 수와 관계없이 메모리 사용량을 일정하게 유지한다.
+ */
+@Service
+@RequiredArgsConstructor
+public class BoardExportService {
+
+    private static final int CLEAR_INTERVAL = 1000;
+
+    private final BoardRepository boardRepository;
+    private final EntityManager entityManager;
+    private final ObjectMapper objectMapper;
+
+    @Transactional(readOnly = true)
+    public long exportBoards(OutputStream outputStream) throws IOException {
+        long count = 0;
+        try (Stream<Board> boards = boardRepository.streamAll();
+             JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // 응답 스트림은 서블릿 컨테이너가 닫는다
+            generator.disable(JsonGenerator.Feature.AUTO_CLOSE_TARGET);
+            generator.setRootValueSeparator(null);
+
+            Iterator<Board> iterator = boards.iterator();
+            while (iterator.hasNext()) {
+                generator.writeObject(new BoardResponseDto(iterator.next()));
+                generator.writeRaw('\n');
+
+                if (++count % CLEAR_INTERVAL == 0) {
+                    generator.flush();
+                    entityManager.clear();
+                }
+            }
+            generator.flush();
+        }
+        return count;
+    }
+}
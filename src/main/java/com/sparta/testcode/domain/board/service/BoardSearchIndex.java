@@ -0,0 +1,206 @@
+package com.sparta.testcode.domain.board.service;
+
+import org.springframework.stereotype.Component;
+
+import java.text.Normalizer;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 게시글 제목/본문 전문 검색용 메모리 역색인.
+ * 한글은 형태소 분석 없이도 부분 일치가 되도록 단어를 2-gram 으로 나눠 색인하고(한 글자 단어는 그대로),
+ * 검색어의 모든 토큰을 포함하는 게시글만 BM25 점수 순으로 돌려준다. 제목 토큰은 TITLE_WEIGHT 배로 센다.
+ * 쓰기는 직렬화하고 검색은 락 없이 동시 자료구조를 읽는다.
+ */
+@Component
+public class BoardSearchIndex {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+    private static final int TITLE_WEIGHT = 3;
+
+    // 토큰 -> (게시글 id -> 가중 빈도)
+    private final Map<String, Map<Long, Integer>> postings = new ConcurrentHashMap<>();
+    private final Map<Long, IndexedBoard> documents = new ConcurrentHashMap<>();
+    private final AtomicLong totalLength = new AtomicLong();
+    // 재구축 중 삭제된 게시글, 재구축이 삭제 이전 스냅샷으로 다시 색인하지 않도록 한다
+    private final Set<Long> removedDuringRebuild = ConcurrentHashMap.newKeySet();
+    private volatile boolean rebuilding;
+
+    /**
+     * 게시글을 색인한다. 이미 더 최근(updatedAt 기준) 내용이 색인되어 있으면 무시한다.
+     */
+    public synchronized void index(Long id, String title, String content, LocalDateTime updatedAt) {
+        IndexedBoard existing = documents.get(id);
+        if (existing != null && existing.isNewerThan(updatedAt)) {
+            return;
+        }
+
+        Map<String, Integer> terms = new HashMap<>();
+        tokenize(title).forEach(token -> terms.merge(token, TITLE_WEIGHT, Integer::sum));
+        tokenize(content).forEach(token -> terms.merge(token, 1, Integer::sum));
+
+        removePostings(id);
+        int length = 0;
+        for (Map.Entry<String, Integer> entry : terms.entrySet()) {
+            postings.computeIfAbsent(entry.getKey(), term -> new ConcurrentHashMap<>()).put(id, entry.getValue());
+            length += entry.getValue();
+        }
+        documents.put(id, new IndexedBoard(terms.keySet(), length, updatedAt));
+        totalLength.addAndGet(length);
+    }
+
+    /**
+     * 재구축 중 읽은 스냅샷을 색인한다. 재구축이 시작된 뒤 삭제된 게시글은 건너뛴다.
+     */
+    synchronized void indexSnapshot(Long id, String title, String content, LocalDateTime updatedAt) {
+        if (removedDuringRebuild.contains(id)) {
+            return;
+        }
+        index(id, title, content, updatedAt);
+    }
+
+    public synchronized void remove(Long id) {
+        if (rebuilding) {
+            removedDuringRebuild.add(id);
+        }
+        removePostings(id);
+    }
+
+    synchronized void startRebuild() {
+        rebuilding = true;
+    }
+
+    synchronized void finishRebuild() {
+        rebuilding = false;
+        removedDuringRebuild.clear();
+    }
+
+    public boolean isRebuilding() {
+        return rebuilding;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * 검색어의 모든 토큰을 포함하는 게시글 id 를 점수 내림차순으로 최대 limit 개 반환한다.
+     */
+    public List<Long> search(String query, int limit) {
+        List<Map<Long, Integer>> termPostings = new ArrayList<>();
+        for (String term : Set.copyOf(tokenize(query))) {
+            Map<Long, Integer> docs = postings.get(term);
+            if (docs == null) {
+                return List.of();
+            }
+            termPostings.add(docs);
+        }
+        if (termPostings.isEmpty()) {
+            return List.of();
+        }
+        // 가장 짧은 posting 부터 교집합을 구한다
+        termPostings.sort(Comparator.comparingInt(Map::size));
+
+        int documentCount = Math.max(documents.size(), 1);
+        double averageLength = Math.max((double) totalLength.get() / documentCount, 1);
+        double[] idf = new double[termPostings.size()];
+        for (int i = 0; i < idf.length; i++) {
+            int df = termPostings.get(i).size();
+            idf[i] = Math.log(1 + (documentCount - df + 0.5) / (df + 0.5));
+        }
+
+        PriorityQueue<ScoredBoard> top = new PriorityQueue<>(Comparator.comparingDouble(ScoredBoard::score)
+                .thenComparingLong(ScoredBoard::id));
+        candidates:
+        for (Long id : termPostings.get(0).keySet()) {
+            IndexedBoard document = documents.get(id);
+            if (document == null) {
+                continue;
+            }
+            double score = 0;
+            double norm = K1 * (1 - B + B * document.length() / averageLength);
+            for (int i = 0; i < termPostings.size(); i++) {
+                Integer tf = termPostings.get(i).get(id);
+                if (tf == null) {
+                    continue candidates;
+                }
+                score += idf[i] * tf * (K1 + 1) / (tf + norm);
+            }
+            top.offer(new ScoredBoard(id, score));
+            if (top.size() > limit) {
+                top.poll();
+            }
+        }
+
+        List<Long> result = new ArrayList<>(top.size());
+        while (!top.isEmpty()) {
+            result.add(top.poll().id());
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    static List<String> tokenize(String text) {
+        List<String> tokens = new ArrayList<>();
+        if (text == null || text.isEmpty()) {
+            return tokens;
+        }
+        String normalized = Normalizer.normalize(text, Normalizer.Form.NFKC).toLowerCase(Locale.ROOT);
+        int[] codePoints = normalized.codePoints().toArray();
+        int start = 0;
+        while (start < codePoints.length) {
+            if (!Character.isLetterOrDigit(codePoints[start])) {
+                start++;
+                continue;
+            }
+            int end = start;
+            while (end < codePoints.length && Character.isLetterOrDigit(codePoints[end])) {
+                end++;
+            }
+            if (end - start == 1) {
+                tokens.add(new String(codePoints, start, 1));
+            } else {
+                for (int i = start; i < end - 1; i++) {
+                    tokens.add(new String(codePoints, i, 2));
+                }
+            }
+            start = end;
+        }
+        return tokens;
+    }
+
+    private void removePostings(Long id) {
+        IndexedBoard removed = documents.remove(id);
+        if (removed == null) {
+            return;
+        }
+        for (String term : removed.terms()) {
+            postings.computeIfPresent(term, (t, docs) -> {
+                docs.remove(id);
+                return docs.isEmpty() ? null : docs;
+            });
+        }
+        totalLength.addAndGet(-removed.length());
+    }
+
+    private record IndexedBoard(Set<String> terms, int length, LocalDateTime updatedAt) {
+
+        boolean isNewerThan(LocalDateTime other) {
+            return updatedAt != null && other != null && updatedAt.isAfter(other);
+        }
+    }
+
+    private record ScoredBoard(long id, double score) {
+    }
+}
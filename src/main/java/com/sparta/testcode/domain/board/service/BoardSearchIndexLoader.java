@@ -0,0 +1,68 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.repository.BoardRepository;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * 시작 시 게시글 검색 색인을 채운다.
+ * 애플리케이션이 요청을 받기 시작한 뒤 별도 스레드에서 id 순으로 chunk-size 개씩 읽어 색인하므로,
+ * 재구축 중에도 이미 색인된 게시글과 새로 작성/수정된 게시글은 바로 검색된다.
+ */
+@Slf4j
+@Component
+public class BoardSearchIndexLoader {
+
+    private final BoardRepository boardRepository;
+    private final BoardSearchIndex boardSearchIndex;
+    private final boolean rebuildOnStartup;
+    private final int chunkSize;
+
+    public BoardSearchIndexLoader(BoardRepository boardRepository,
+                                  BoardSearchIndex boardSearchIndex,
+                                  @Value("${search.board.rebuild-on-startup:true}") boolean rebuildOnStartup,
+                                  @Value("${search.board.rebuild-chunk-size:1000}") int chunkSize) {
+        this.boardRepository = boardRepository;
+        this.boardSearchIndex = boardSearchIndex;
+        this.rebuildOnStartup = rebuildOnStartup;
+        this.chunkSize = chunkSize;
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void rebuildOnStartup() {
+        if (!rebuildOnStartup) {
+            return;
+        }
+        Thread rebuilder = new Thread(this::rebuild, "board-search-rebuild");
+        rebuilder.setDaemon(true);
+        rebuilder.start();
+    }
+
+    void rebuild() {
+        long startedAt = System.currentTimeMillis();
+        boardSearchIndex.startRebuild();
+        try {
+            long lastId = 0;
+            List<Board> chunk;
+            do {
+                chunk = boardRepository.findChunkAfter(lastId, PageRequest.of(0, chunkSize));
+                for (Board board : chunk) {
+                    boardSearchIndex.indexSnapshot(board.getId(), board.getTitle(), board.getContent(), board.getUpdatedAt());
+                    lastId = board.getId();
+                }
+            } while (chunk.size() == chunkSize);
+            log.info("게시글 검색 색인 재구축 완료: {}건, {}ms", boardSearchIndex.size(), System.currentTimeMillis() - startedAt);
+        } catch (RuntimeException e) {
+            log.error("게시글 검색 색인 재구축 실패", e);
+        } finally {
+            boardSearchIndex.finishRebuild();
+        }
+    }
+}
@@ -0,0 +1,47 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.sparta.testcode.domain.board.entity.Board;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.InitializingBean;
+import org.springframework.context.annotation.DependsOn;
+import org.springframework.dao.DataAccessException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+/**
+ * MySQL 처럼 시퀀스를 board_seq 테이블로 흉내 내는 DB 에서 next_val 을 기존 게시글 id 뒤로 맞춘다.
+ * IDENTITY 로 쌓인 게시글이 있는 DB 에 ddl-auto 로 board_seq 가 새로 만들어지면 1 부터 시작해 기존 id 와 겹치기 때문이다.
+ * 스키마 갱신이 끝난 뒤, 요청을 받기 전에 실행되며 next_val 을 줄이지는 않으므로 여러 노드가 함께 떠도 안전하다.
+ */
+@Slf4j
+@Component
+@DependsOn("entityManagerFactory")
+public class BoardSequenceInitializer implements InitializingBean {
+
+    // pooled 옵티마이저는 next_val 을 읽으면 (next_val - allocationSize + 1) 부터 발급하므로 max(id) + allocationSize 로 맞춘다
+    private static final String ALIGN_SQL =
+            "update board_seq set next_val = greatest(next_val, (select coalesce(max(id), 0) + ? from board))";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public BoardSequenceInitializer(JdbcTemplate jdbcTemplate) {
+        this.jdbcTemplate = jdbcTemplate;
+    }
+
+    @Override
+    public void afterPropertiesSet() {
+        Long before;
+        try {
+            before = jdbcTemplate.queryForObject("select max(next_val) from board_seq", Long.class);
+        } catch (DataAccessException e) {
+            // 네이티브 시퀀스를 쓰는 DB 에는 board_seq 테이블이 없다
+            log.debug("board_seq 테이블이 없어 시퀀스 정렬을 건너뜁니다: {}", e.getMessage());
+            return;
+        }
+        jdbcTemplate.update(ALIGN_SQL, Board.ID_ALLOCATION_SIZE);
+        Long after = jdbcTemplate.queryForObject("select max(next_val) from board_seq", Long.class);
+        if (before == null || !before.equals(after)) {
+            log.info("board_seq next_val 을 기존 게시글 id 뒤로 맞췄습니다: {} -> {}", before, after);
+        }
+    }
+}
@@ -1,32 +1,67 @@
 package com.sparta.testcode.domain.board.service;
 
+import com.sparta.testcode.domain.board.dto.BoardCursor;
+import com.sparta.testcode.domain.board.dto.BoardListStats;
 import com.sparta.testcode.domain.board.dto.BoardRequestDto;
 import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSummaryDto;
+import com.sparta.testcode.domain.board.dto.BoardSummarySliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardVersion;
 import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
 import com.sparta.testcode.domain.board.repository.BoardRepository;
+import com.sparta.testcode.global.datasource.PrimaryRead;
+import com.sparta.testcode.global.util.TransactionUtils;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
 @Service
 @RequiredArgsConstructor
 public class BoardService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int MAX_PREVIEW_LENGTH = 200;
+
     private final BoardRepository boardRepository;
+    private final BoardCache boardCache;
+    private final BoardSearchIndex boardSearchIndex;
 
     @Transactional
     public BoardResponseDto createBoard(BoardRequestDto requestDto) {
         Board board = Board.create(requestDto.getTitle(), requestDto.getContent(), requestDto.getAuthor());
         Board savedBoard = boardRepository.save(board);
+        indexAfterCommit(savedBoard);
         return new BoardResponseDto(savedBoard);
     }
 
-    @Transactional(readOnly = true)
+    // 캐시 적중 시 DB 커넥션을 잡지 않도록 트랜잭션은 캐시 미스 시의 findById 에서만 시작된다
+    // 조건부 GET 의 ETag 도 이 결과로 만들어 본문과 버전이 어긋나지 않게 한다
     public BoardResponseDto getBoard(Long id) {
-        Board board = boardRepository.findById(id)
+        return boardCache.get(id, this::loadBoard);
+    }
+
+    public BoardVersion getBoardsVersion() {
+        BoardListStats stats = boardRepository.findListStats();
+        return BoardVersion.ofList(stats.getTotal(), stats.getMaxId(), stats.getVersionSum());
+    }
+
+    // 캐시를 거치지 않고 저장소의 현재 상태를 읽는다 (수정 충돌 응답, 재시도 기준 상태용)
+    public BoardResponseDto getLatestBoard(Long id) {
+        return loadBoard(id);
+    }
+
+    // 캐시에 채워지거나 충돌 판단에 쓰이므로 복제 지연이 있는 replica 가 아닌 primary 에서 읽는다
+    private BoardResponseDto loadBoard(Long id) {
+        Board board = PrimaryRead.execute(() -> boardRepository.findById(id))
                 .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다.: " + id));
         return new BoardResponseDto(board);
     }
@@ -38,20 +73,145 @@ public class BoardService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public BoardSliceResponseDto getBoardsByCursor(String cursor, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        // 다음 페이지 존재 여부 확인을 위해 한 건 더 조회
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<Board> boards;
+        if (cursor == null || cursor.isBlank()) {
+            boards = boardRepository.findFirstPage(limit);
+        } else {
+            BoardCursor boardCursor = BoardCursor.decode(cursor);
+            boards = boardRepository.findPageBefore(boardCursor.getCreatedAt(), boardCursor.getId(), limit);
+        }
+
+        boolean hasNext = boards.size() > pageSize;
+        List<Board> page = hasNext ? boards.subList(0, pageSize) : boards;
+        String nextCursor = hasNext ? BoardCursor.encode(page.get(page.size() - 1)) : null;
+
+        List<BoardResponseDto> content = page.stream()
+                .map(BoardResponseDto::new)
+                .collect(Collectors.toList());
+        return new BoardSliceResponseDto(content, nextCursor, hasNext);
+    }
+
+    @Transactional(readOnly = true)
+    public List<BoardResponseDto> searchBoards(String query, int size) {
+        if (query == null || query.isBlank()) {
+            throw new IllegalArgumentException("검색어를 입력해주세요.");
+        }
+        int limit = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        List<Long> ids = boardSearchIndex.search(query, limit);
+        if (ids.isEmpty()) {
+            return List.of();
+        }
+
+        // 색인 순위대로 정렬, 색인 이후 삭제된 게시글은 제외된다
+        Map<Long, Board> boards = boardRepository.findAllById(ids).stream()
+                .collect(Collectors.toMap(Board::getId, Function.identity()));
+        return ids.stream()
+                .map(boards::get)
+                .filter(Objects::nonNull)
+                .map(BoardResponseDto::new)
+                .collect(Collectors.toList());
+    }
+
+    /**
+     * 게시글 목록 요약을 keyset 페이지로 조회한다. content 는 previewLength 가 1 이상일 때만 그 길이만큼 잘라 읽는다.
+     */
+    @Transactional(readOnly = true)
+    public BoardSummarySliceResponseDto getBoardSummaries(String cursor, int size, int previewLength) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        int preview = Math.min(Math.max(previewLength, 0), MAX_PREVIEW_LENGTH);
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+
+        List<BoardSummaryDto> summaries;
+        if (cursor == null || cursor.isBlank()) {
+            summaries = preview > 0
+                    ? boardRepository.findSummaryFirstPageWithPreview(preview, limit)
+                    : boardRepository.findSummaryFirstPage(limit);
+        } else {
+            BoardCursor boardCursor = BoardCursor.decode(cursor);
+            summaries = preview > 0
+                    ? boardRepository.findSummaryPageBeforeWithPreview(boardCursor.getCreatedAt(), boardCursor.getId(), preview, limit)
+                    : boardRepository.findSummaryPageBefore(boardCursor.getCreatedAt(), boardCursor.getId(), limit);
+        }
+
+        boolean hasNext = summaries.size() > pageSize;
+        List<BoardSummaryDto> page = hasNext ? summaries.subList(0, pageSize) : summaries;
+        BoardSummaryDto last = hasNext ? page.get(page.size() - 1) : null;
+        String nextCursor = last != null ? BoardCursor.encode(last.getCreatedAt(), last.getId()) : null;
+        return new BoardSummarySliceResponseDto(page, nextCursor, hasNext);
+    }
+
     @Transactional
     public BoardResponseDto updateBoard(Long id, BoardRequestDto requestDto) {
+        return updateBoard(id, requestDto, null);
+    }
+
+    /**
+     * 게시글을 수정한다. 요청에서 null 인 필드는 현재 값을 유지한다.
+     * expectedVersion 이 있으면 현재 version 과 다를 때 BoardConflictException 을 던지고,
+     * 조회 이후 다른 수정이 먼저 커밋되면 flush 시점에 OptimisticLockingFailureException 이 발생한다.
+     */
+    @Transactional
+    public BoardResponseDto updateBoard(Long id, BoardRequestDto requestDto, Long expectedVersion) {
+        Board board = boardRepository.findById(id)
+                .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다.: " + id));
+        if (expectedVersion != null && !expectedVersion.equals(board.getVersion())) {
+            throw new BoardConflictException(new BoardResponseDto(board));
+        }
+        return applyUpdate(board, requestDto);
+    }
+
+    /**
+     * base 를 읽은 이후 다른 수정이 커밋됐다면, 그 수정이 요청한 필드를 건드리지 않았을 때만 최신 상태에 요청을 다시 적용한다.
+     * 같은 필드를 다른 값으로 바꾼 수정이 먼저 커밋됐으면 덮어쓰지 않고 BoardConflictException 을 던진다.
+     */
+    @Transactional
+    public BoardResponseDto mergeBoard(Long id, BoardRequestDto requestDto, BoardResponseDto base) {
         Board board = boardRepository.findById(id)
                 .orElseThrow(() -> new IllegalArgumentException("보드를 찾을 수 없습니다.: " + id));
-        board.update(requestDto.getTitle(), requestDto.getContent());
+        if (!Objects.equals(base.getVersion(), board.getVersion())
+                && (overwrites(requestDto.getTitle(), base.getTitle(), board.getTitle())
+                || overwrites(requestDto.getContent(), base.getContent(), board.getContent()))) {
+            throw new BoardConflictException(new BoardResponseDto(board));
+        }
+        return applyUpdate(board, requestDto);
+    }
+
+    private BoardResponseDto applyUpdate(Board board, BoardRequestDto requestDto) {
+        String title = requestDto.getTitle() != null ? requestDto.getTitle() : board.getTitle();
+        String content = requestDto.getContent() != null ? requestDto.getContent() : board.getContent();
+        board.update(title, content);
+        // 증가한 version 과 updatedAt 을 응답에 담고, 충돌은 이 트랜잭션 안에서 드러나도록 먼저 flush 한다
+        boardRepository.flush();
+        boardCache.evictAfterCommit(board.getId());
+        indexAfterCommit(board);
 
         return new BoardResponseDto(board);
     }
 
+    // 요청한 필드를 다른 수정이 base 와 다른 값으로 바꿔 두었는지, 같은 값으로 바꾼 경우는 충돌로 보지 않는다
+    private static boolean overwrites(String requested, String base, String current) {
+        return requested != null && !Objects.equals(base, current) && !requested.equals(current);
+    }
+
     @Transactional
     public void deleteBoard(Long id) {
         if (!boardRepository.existsById(id)) {
             throw new IllegalArgumentException("보드를 찾을 수 없습니다.: " + id);
         }
         boardRepository.deleteById(id);
+        boardCache.evictAfterCommit(id);
+        TransactionUtils.runAfterCommit(() -> boardSearchIndex.remove(id));
+    }
+
+    // 색인은 커밋된 내용만 반영하고, updatedAt 은 flush 시점에 채워지므로 커밋 이후에 읽는다
+    private void indexAfterCommit(Board board) {
+        TransactionUtils.runAfterCommit(() ->
+                boardSearchIndex.index(board.getId(), board.getTitle(), board.getContent(), board.getUpdatedAt()));
     }
 }
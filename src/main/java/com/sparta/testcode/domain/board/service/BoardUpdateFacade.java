@@ -0,0 +1,53 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.sparta.testcode.domain.board.dto.BoardRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.OptimisticLockingFailureException;
+import org.springframework.stereotype.Component;
+
+/**
+ * 낙관적 락 충돌 처리.
+ * If-Match 로 기준 version 을 지정한 수정은 재시도하지 않고 현재 상태와 함께 충돌을 알린다.
+ * 기준 version 이 없는 수정은 처음 읽은 상태를 기준으로 최대 max-retries 번 재시도하되,
+ * 먼저 커밋된 수정이 요청한 필드와 겹치지 않을 때만 최신 상태에 다시 적용하고 겹치면 충돌을 알린다.
+ * 행 잠금을 잡지 않으므로 같은 게시글에 수정이 몰려도 읽기와 다른 게시글의 수정은 막히지 않는다.
+ */
+@Slf4j
+@Component
+public class BoardUpdateFacade {
+
+    private final BoardService boardService;
+    private final int maxRetries;
+
+    public BoardUpdateFacade(BoardService boardService,
+                             @Value("${board.update.max-retries:3}") int maxRetries) {
+        this.boardService = boardService;
+        this.maxRetries = maxRetries;
+    }
+
+    public BoardResponseDto updateBoard(Long id, BoardRequestDto requestDto, Long expectedVersion) {
+        if (expectedVersion != null) {
+            try {
+                return boardService.updateBoard(id, requestDto, expectedVersion);
+            } catch (OptimisticLockingFailureException e) {
+                throw new BoardConflictException(boardService.getLatestBoard(id));
+            }
+        }
+
+        BoardResponseDto base = boardService.getLatestBoard(id);
+        int attempt = 0;
+        while (true) {
+            try {
+                return boardService.mergeBoard(id, requestDto, base);
+            } catch (OptimisticLockingFailureException e) {
+                if (++attempt > maxRetries) {
+                    throw new BoardConflictException(boardService.getLatestBoard(id));
+                }
+                log.debug("게시글 수정 충돌, 재시도 {}/{}: {}", attempt, maxRetries, id);
+            }
+        }
+    }
+}
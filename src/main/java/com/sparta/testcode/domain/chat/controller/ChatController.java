@@ -1,22 +1,68 @@
 package com.sparta.testcode.domain.chat.controller;
 
 import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
-import lombok.RequiredArgsConstructor;
+import com.sparta.testcode.domain.chat.dto.ChatReplayDto;
+import com.sparta.testcode.domain.chat.service.ChatMessageBatcher;
+import com.sparta.testcode.domain.chat.service.ChatMessageSequencer;
+import com.sparta.testcode.domain.chat.service.ChatMessageService;
+import com.sparta.testcode.global.websocket.SlowConsumerGuard;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.messaging.handler.annotation.DestinationVariable;
 import org.springframework.messaging.handler.annotation.MessageMapping;
 import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.annotation.SubscribeMapping;
 import org.springframework.stereotype.Controller;
 
+import java.util.Map;
+
 @Controller
-@RequiredArgsConstructor
 public class ChatController {
 
     private final SimpMessageSendingOperations messagingTemplate;
+    private final ChatMessageService chatMessageService;
+    private final ChatMessageSequencer chatMessageSequencer;
+    private final ChatMessageBatcher chatMessageBatcher;
+    private final Timer fanOutTimer;
+
+    public ChatController(SimpMessageSendingOperations messagingTemplate,
+                          ChatMessageService chatMessageService,
+                          ChatMessageSequencer chatMessageSequencer,
+                          ChatMessageBatcher chatMessageBatcher,
+                          MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.chatMessageService = chatMessageService;
+        this.chatMessageSequencer = chatMessageSequencer;
+        this.chatMessageBatcher = chatMessageBatcher;
+        this.fanOutTimer = Timer.builder("chat.message.fanout")
+                .description("채팅 메시지를 브로커로 넘기는 데 걸린 시간")
+                .register(meterRegistry);
+    }
 
     @MessageMapping("/chat/message")
     public void message(ChatMessageDto message) {
         if (ChatMessageDto.MessageType.ENTER.equals(message.getType())) {
             message.setMessage(message.getSender() + "님이 입장하셨습니다.");
         }
-        messagingTemplate.convertAndSend("/topic/chat/room/" + message.getRoomId(), message);
+        chatMessageSequencer.assign(message);
+        Map<String, Object> headers = message.getType() != null
+                ? Map.of(SlowConsumerGuard.CHAT_TYPE_HEADER, message.getType().name())
+                : Map.of();
+        fanOutTimer.record(() -> messagingTemplate.convertAndSend("/topic/chat/room/" + message.getRoomId(), message, headers));
+        if (chatMessageBatcher.isEnabled()) {
+            chatMessageBatcher.enqueue(message);
+        }
+        chatMessageService.record(message);
+    }
+
+    /**
+     * 재연결한 클라이언트가 방을 다시 구독한 뒤 마지막으로 받은 epoch 와 seq 로 구독하면 놓친 메시지를 한 번 응답한다.
+     * 처음 입장하는 클라이언트는 epoch 와 lastSeq 를 0 으로 보낸다.
+     */
+    @SubscribeMapping("/chat/room/{roomId}/replay/{epoch}/{lastSeq}")
+    public ChatReplayDto replay(@DestinationVariable String roomId,
+                                @DestinationVariable long epoch,
+                                @DestinationVariable long lastSeq) {
+        return chatMessageSequencer.replay(roomId, epoch, lastSeq);
     }
 }
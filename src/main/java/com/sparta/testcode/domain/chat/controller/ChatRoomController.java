@@ -1,6 +1,9 @@
 package com.sparta.testcode.domain.chat.controller;
 
+import com.sparta.testcode.domain.chat.dto.ChatMessagePageDto;
 import com.sparta.testcode.domain.chat.dto.ChatRoomDto;
+import com.sparta.testcode.domain.chat.dto.ChatRoomPageDto;
+import com.sparta.testcode.domain.chat.service.ChatHistoryService;
 import com.sparta.testcode.domain.chat.service.ChatService;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.*;
@@ -13,6 +16,7 @@ import java.util.List;
 public class ChatRoomController {
 
     private final ChatService chatService;
+    private final ChatHistoryService chatHistoryService;
 
     @PostMapping("/rooms")
     public ChatRoomDto createRoom(@RequestParam String name) {
@@ -24,8 +28,21 @@ public class ChatRoomController {
         return chatService.findAllRoom();
     }
 
+    @GetMapping("/rooms/page")
+    public ChatRoomPageDto findRooms(@RequestParam(required = false) String after,
+                                     @RequestParam(defaultValue = "20") int size) {
+        return chatService.findRooms(after, size);
+    }
+
     @GetMapping("/rooms/{roomId}")
     public ChatRoomDto findRoom(@PathVariable String roomId) {
         return chatService.findRoomById(roomId);
     }
+
+    @GetMapping("/rooms/{roomId}/messages")
+    public ChatMessagePageDto findMessages(@PathVariable String roomId,
+                                           @RequestParam(required = false) Long before,
+                                           @RequestParam(defaultValue = "50") int limit) {
+        return chatHistoryService.findMessages(roomId, before, limit);
+    }
 }
@@ -1,6 +1,5 @@
 package com.sparta.testcode.domain.chat.dto;
 
-import lombok.AllArgsConstructor;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
@@ -8,12 +7,22 @@ import lombok.Setter;
 @Getter
 @Setter
 @NoArgsConstructor
-@AllArgsConstructor
 public class ChatMessageDto {
     private MessageType type;
     private String roomId;
     private String sender;
     private String message;
+    // 서버가 채운다: 방마다 1 부터 증가하는 순번, 순번이 다시 시작되면 바뀌는 epoch, 보낸 시각(epoch millis)
+    private Long seq;
+    private Long epoch;
+    private Long timestamp;
+
+    public ChatMessageDto(MessageType type, String roomId, String sender, String message) {
+        this.type = type;
+        this.roomId = roomId;
+        this.sender = sender;
+        this.message = message;
+    }
 
     public enum MessageType {
         ENTER, TALK
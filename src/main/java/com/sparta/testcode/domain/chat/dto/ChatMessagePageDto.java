@@ -0,0 +1,18 @@
+package com.sparta.testcode.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatMessagePageDto {
+    // 오래된 메시지부터 시간순으로 정렬된다
+    private List<ChatMessageResponseDto> messages;
+    // 다음(더 오래된) 페이지 요청 시 before 로 넘길 값
+    private Long nextBefore;
+    private boolean hasNext;
+}
@@ -0,0 +1,32 @@
+package com.sparta.testcode.domain.chat.dto;
+
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Getter
+@NoArgsConstructor
+public class ChatMessageResponseDto {
+    private Long id;
+    private ChatMessageDto.MessageType type;
+    private String roomId;
+    private String sender;
+    private String message;
+    private LocalDateTime createdAt;
+    // 이력과 재연결 이어받기를 맞출 수 있도록 실시간 메시지와 같은 seq, epoch 를 내려준다
+    private Long seq;
+    private Long epoch;
+
+    public ChatMessageResponseDto(ChatMessage chatMessage) {
+        this.id = chatMessage.getId();
+        this.type = chatMessage.getType();
+        this.roomId = chatMessage.getRoomId();
+        this.sender = chatMessage.getSender();
+        this.message = chatMessage.getMessage();
+        this.createdAt = chatMessage.getCreatedAt();
+        this.seq = chatMessage.getSeq();
+        this.epoch = chatMessage.getEpoch();
+    }
+}
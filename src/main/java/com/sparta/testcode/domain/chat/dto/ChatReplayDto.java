@@ -0,0 +1,21 @@
+package com.sparta.testcode.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * 재연결 시 놓친 메시지 응답.
+ * reset 이 true 이면 epoch 가 바뀌었거나 놓친 구간이 버퍼보다 길어 이어 받을 수 없으므로, 이력 API 로 다시 불러와야 한다.
+ */
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatReplayDto {
+    private long epoch;
+    private long lastSeq;
+    private boolean reset;
+    private List<ChatMessageDto> messages;
+}
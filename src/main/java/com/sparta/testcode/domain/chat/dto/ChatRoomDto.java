@@ -12,9 +12,13 @@ public class ChatRoomDto {
     private String roomName;
 
     public static ChatRoomDto create(String name) {
+        return of(UUID.randomUUID().toString(), name);
+    }
+
+    public static ChatRoomDto of(String roomId, String roomName) {
         ChatRoomDto room = new ChatRoomDto();
-        room.roomId = UUID.randomUUID().toString();
-        room.roomName = name;
+        room.roomId = roomId;
+        room.roomName = roomName;
         return room;
     }
 }
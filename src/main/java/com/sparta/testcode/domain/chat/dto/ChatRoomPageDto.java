@@ -0,0 +1,18 @@
+package com.sparta.testcode.domain.chat.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+public class ChatRoomPageDto {
+    // 생성 순서대로 정렬된다
+    private List<ChatRoomDto> rooms;
+    // 다음 페이지 요청 시 after 로 넘길 값
+    private String nextAfter;
+    private boolean hasNext;
+}
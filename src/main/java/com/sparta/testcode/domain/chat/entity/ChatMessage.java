@@ -0,0 +1,74 @@
+package com.sparta.testcode.domain.chat.entity;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_message", indexes = @Index(name = "idx_chat_message_room_id_id", columnList = "room_id, id"))
+public class ChatMessage {
+
+    public static final int MAX_ID_LENGTH = 255;
+    public static final int MAX_MESSAGE_LENGTH = 1000;
+
+    // 배치 INSERT 를 위해 DB 가 아닌 ChatMessageIdGenerator 가 발급한다
+    @Id
+    private Long id;
+
+    @Column(name = "room_id", nullable = false, length = MAX_ID_LENGTH)
+    private String roomId;
+
+    @Column(nullable = false, length = MAX_ID_LENGTH)
+    private String sender;
+
+    @Column(nullable = false)
+    @Enumerated(value = EnumType.STRING)
+    private ChatMessageDto.MessageType type;
+
+    @Column(length = MAX_MESSAGE_LENGTH)
+    private String message;
+
+    @Column(name = "created_at", nullable = false)
+    private LocalDateTime createdAt;
+
+    // 재연결 이어받기용 방 순번, relay 모드처럼 순번을 매기지 않으면 null
+    private Long seq;
+
+    private Long epoch;
+
+    private ChatMessage(Long id, String roomId, String sender, ChatMessageDto.MessageType type, String message,
+                        LocalDateTime createdAt, Long seq, Long epoch) {
+        this.id = id;
+        this.roomId = roomId;
+        this.sender = sender;
+        this.type = type;
+        this.message = message;
+        this.createdAt = createdAt;
+        this.seq = seq;
+        this.epoch = epoch;
+    }
+
+    // 본문이 컬럼 길이를 넘으면 배치 INSERT 전체가 실패하므로 저장본은 컬럼 길이에 맞춰 자른다
+    public static ChatMessage create(Long id, ChatMessageDto dto, LocalDateTime createdAt) {
+        return new ChatMessage(id, dto.getRoomId(), dto.getSender(), dto.getType(), truncate(dto.getMessage()), createdAt,
+                dto.getSeq(), dto.getEpoch());
+    }
+
+    private static String truncate(String message) {
+        if (message == null || message.length() <= MAX_MESSAGE_LENGTH) {
+            return message;
+        }
+        int end = MAX_MESSAGE_LENGTH;
+        // 서로게이트 쌍 가운데서 자르지 않는다
+        if (Character.isHighSurrogate(message.charAt(end - 1))) {
+            end--;
+        }
+        return message.substring(0, end);
+    }
+}
@@ -0,0 +1,31 @@
+package com.sparta.testcode.domain.chat.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+
+@Entity
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Table(name = "chat_room", indexes = @Index(name = "idx_chat_room_created_at", columnList = "created_at"))
+public class ChatRoom {
+
+    @Id
+    @Column(name = "room_id")
+    private String roomId;
+
+    @Column(name = "room_name", nullable = false)
+    private String roomName;
+
+    @Column(name = "created_at", nullable = false, updatable = false)
+    private LocalDateTime createdAt;
+
+    public ChatRoom(String roomId, String roomName, LocalDateTime createdAt) {
+        this.roomId = roomId;
+        this.roomName = roomName;
+        this.createdAt = createdAt;
+    }
+}
@@ -0,0 +1,20 @@
+package com.sparta.testcode.domain.chat.repository;
+
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.List;
+
+public interface ChatMessageRepository extends JpaRepository<ChatMessage, Long> {
+
+    List<ChatMessage> findByRoomId(String roomId);
+
+    @Query("select m from ChatMessage m where m.roomId = :roomId order by m.id desc")
+    List<ChatMessage> findLatest(@Param("roomId") String roomId, Pageable pageable);
+
+    @Query("select m from ChatMessage m where m.roomId = :roomId and m.id < :before order by m.id desc")
+    List<ChatMessage> findBefore(@Param("roomId") String roomId, @Param("before") Long before, Pageable pageable);
+}
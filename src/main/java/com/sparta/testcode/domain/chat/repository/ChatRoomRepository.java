@@ -0,0 +1,10 @@
+package com.sparta.testcode.domain.chat.repository;
+
+import com.sparta.testcode.domain.chat.entity.ChatRoom;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+import java.util.List;
+
+public interface ChatRoomRepository extends JpaRepository<ChatRoom, String> {
+    List<ChatRoom> findAllByOrderByCreatedAtAscRoomIdAsc();
+}
@@ -0,0 +1,172 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.testcode.domain.chat.dto.ChatMessagePageDto;
+import com.sparta.testcode.domain.chat.dto.ChatMessageResponseDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import com.sparta.testcode.domain.chat.repository.ChatMessageRepository;
+import com.sparta.testcode.global.config.ChatBrokerProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.stream.Collectors;
+
+/**
+ * 채팅방 메시지 이력 조회.
+ * 방마다 최근 tail-size 개의 메시지를 메모리에 유지하고(쓰기 경로에서 채움),
+ * 그보다 오래된 페이지만 저장소에서 id 기반 keyset 페이지네이션으로 조회한다.
+ * tail 은 이 노드가 처리한 메시지만 담으므로 모든 메시지가 한 노드를 거치는 simple 브로커 모드에서만 사용한다.
+ * relay 모드에서는 다른 노드로 들어온 메시지가 tail 에 빠지므로 항상 저장소에서 조회한다.
+ */
+@Service
+public class ChatHistoryService {
+
+    private static final int MAX_LIMIT = 100;
+
+    private final ChatMessageRepository chatMessageRepository;
+    private final int tailSize;
+    private final boolean tailEnabled;
+    private final Cache<String, RoomTail> tails;
+
+    public ChatHistoryService(ChatMessageRepository chatMessageRepository,
+                              @Value("${chat.broker.mode:simple}") ChatBrokerProperties.Mode brokerMode,
+                              @Value("${chat.history.tail-size:100}") int tailSize,
+                              @Value("${chat.history.max-rooms:10000}") long maxRooms,
+                              @Value("${chat.history.idle-timeout:1h}") Duration idleTimeout) {
+        this.chatMessageRepository = chatMessageRepository;
+        this.tailSize = tailSize;
+        this.tailEnabled = brokerMode == ChatBrokerProperties.Mode.SIMPLE;
+        this.tails = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    public void append(ChatMessage message) {
+        if (!tailEnabled) {
+            return;
+        }
+        tails.get(message.getRoomId(), roomId -> new RoomTail(tailSize)).add(message);
+    }
+
+    public ChatMessagePageDto findMessages(String roomId, Long before, int limit) {
+        int pageSize = Math.min(Math.max(limit, 1), MAX_LIMIT);
+        long upperBound = before != null ? before : Long.MAX_VALUE;
+
+        // 최신 -> 과거 순으로 수집
+        List<ChatMessage> collected = new ArrayList<>(pageSize + 1);
+        RoomTail tail = tailEnabled ? tails.getIfPresent(roomId) : null;
+        RoomTail.Snapshot snapshot = tail != null ? tail.collect(upperBound, pageSize + 1, collected) : null;
+        boolean complete = snapshot != null && snapshot.complete();
+
+        if (collected.size() <= pageSize && !complete) {
+            long dbUpperBound = collected.isEmpty() ? upperBound : minId(collected);
+            int remaining = pageSize + 1 - collected.size();
+            PageRequest page = PageRequest.of(0, remaining);
+            List<ChatMessage> older = dbUpperBound == Long.MAX_VALUE
+                    ? chatMessageRepository.findLatest(roomId, page)
+                    : chatMessageRepository.findBefore(roomId, dbUpperBound, page);
+            collected.addAll(older);
+
+            if (snapshot != null && before == null && older.size() < remaining) {
+                // 최신부터 조회했는데 저장소에 tail 보다 오래된 메시지가 더 없으면 이후에는 tail 만으로 응답할 수 있다
+                tail.markComplete(snapshot.evictions());
+            }
+        }
+
+        boolean hasNext = collected.size() > pageSize;
+        List<ChatMessage> pageMessages = hasNext ? collected.subList(0, pageSize) : collected;
+        Long nextBefore = hasNext ? minId(pageMessages) : null;
+
+        List<ChatMessageResponseDto> messages = pageMessages.stream()
+                .map(ChatMessageResponseDto::new)
+                .collect(Collectors.toList());
+        Collections.reverse(messages);
+        return new ChatMessagePageDto(messages, nextBefore, hasNext);
+    }
+
+    private static long minId(List<ChatMessage> messages) {
+        long min = Long.MAX_VALUE;
+        for (ChatMessage message : messages) {
+            min = Math.min(min, message.getId());
+        }
+        return min;
+    }
+
+    private static class RoomTail {
+
+        private final int capacity;
+        // 과거 -> 최신 순(id 오름차순)
+        private final ArrayDeque<ChatMessage> messages;
+        // tail 보다 오래된 메시지가 저장소에 없는지 여부
+        private boolean complete;
+        // 앞에서 밀려난 메시지 수, 조회 사이에 밀려났는지 확인하는 데 쓴다
+        private long evictions;
+
+        RoomTail(int capacity) {
+            this.capacity = capacity;
+            this.messages = new ArrayDeque<>(capacity);
+        }
+
+        /**
+         * id 순서 자리에 넣는다.
+         * id 발급과 append 사이에 다른 스레드가 끼어들 수 있어 도착 순서가 id 순서와 다를 수 있지만, 대부분 끝 근처이므로 뒤에서부터 찾는다.
+         */
+        synchronized void add(ChatMessage message) {
+            if (messages.size() == capacity) {
+                if (message.getId() < messages.getFirst().getId()) {
+                    // tail 보다 오래된 메시지라 담지 않지만 저장소에는 tail 보다 오래된 메시지가 생긴다
+                    evictions++;
+                    complete = false;
+                    return;
+                }
+                messages.removeFirst();
+                evictions++;
+                complete = false;
+            }
+            ArrayDeque<ChatMessage> newer = new ArrayDeque<>();
+            while (!messages.isEmpty() && messages.getLast().getId() > message.getId()) {
+                newer.addFirst(messages.removeLast());
+            }
+            messages.addLast(message);
+            messages.addAll(newer);
+        }
+
+        /**
+         * collect 이후 밀려난 메시지가 없을 때만 표시한다.
+         * 그 사이 밀려난 메시지는 저장소 조회 결과보다 새롭지만 tail 에는 없으므로 표시하면 이력에서 빠진다.
+         */
+        synchronized void markComplete(long evictionsAtCollect) {
+            if (evictions == evictionsAtCollect) {
+                complete = true;
+            }
+        }
+
+        /**
+         * upperBound 보다 작은 id 의 메시지를 최신 순으로 최대 max 개 담는다.
+         *
+         * @return 담긴 메시지만으로 요청에 답할 수 있는지와 이 시점까지 밀려난 메시지 수
+         */
+        synchronized Snapshot collect(long upperBound, int max, List<ChatMessage> result) {
+            Iterator<ChatMessage> iterator = messages.descendingIterator();
+            while (iterator.hasNext() && result.size() < max) {
+                ChatMessage message = iterator.next();
+                if (message.getId() < upperBound) {
+                    result.add(message);
+                }
+            }
+            return new Snapshot(result.size() >= max || complete, evictions);
+        }
+
+        record Snapshot(boolean complete, long evictions) {
+        }
+    }
+}
@@ -0,0 +1,165 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.global.config.ChatFanoutProperties;
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.messaging.simp.SimpMessageType;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Service;
+import org.springframework.util.MimeType;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 방마다 window 동안 모인 메시지를 묶어 한 프레임으로 보낸다.
+ * 묶음은 한 번만 직렬화한 byte[] 로 브로커에 넘기므로 구독자 수와 관계없이 직렬화는 묶음당 한 번(CBOR 사용 시 두 번)이고,
+ * 구독자마다 메시지 수만큼 보내던 프레임이 묶음 수만큼으로 줄어든다.
+ * 쓰기 경로는 큐에 넣고 플래그 하나를 CAS 하는 것이 전부이며, 직렬화와 전송은 pool-size 개의 스케줄러 스레드에서 방마다 나눠 한다.
+ * 한 방의 flush 는 플래그를 쥔 동안 하나만 실행되므로 스레드가 여러 개여도 묶음 순서는 유지된다.
+ */
+@Slf4j
+@Service
+@EnableConfigurationProperties(ChatFanoutProperties.class)
+public class ChatMessageBatcher implements DisposableBean {
+
+    public static final String BATCH_DESTINATION_SUFFIX = "/batch";
+    public static final String CBOR_DESTINATION_SUFFIX = "/batch/cbor";
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat/room/";
+    private static final MimeType JSON = MimeTypeUtils.APPLICATION_JSON;
+    // STOMP 는 application/octet-stream 일 때만 바이너리 WebSocket 프레임으로 보낸다
+    private static final MimeType BINARY = MimeTypeUtils.APPLICATION_OCTET_STREAM;
+
+    private final SimpMessageSendingOperations messagingTemplate;
+    private final ObjectMapper objectMapper;
+    private final CBORMapper cborMapper = new CBORMapper();
+    private final ChatFanoutProperties properties;
+    private final Duration window;
+    private final Cache<String, RoomBatch> rooms;
+    private final ThreadPoolTaskScheduler scheduler;
+    private final DistributionSummary batchSize;
+
+    public ChatMessageBatcher(SimpMessageSendingOperations messagingTemplate,
+                              ObjectMapper objectMapper,
+                              ChatFanoutProperties properties,
+                              MeterRegistry meterRegistry) {
+        this.messagingTemplate = messagingTemplate;
+        this.objectMapper = objectMapper;
+        this.properties = properties;
+        this.window = properties.getWindow();
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(properties.getMaxRooms())
+                .expireAfterAccess(properties.getIdleTimeout())
+                .build();
+        this.scheduler = new ThreadPoolTaskScheduler();
+        scheduler.setPoolSize(properties.getPoolSize() > 0 ? properties.getPoolSize() : Runtime.getRuntime().availableProcessors());
+        scheduler.setThreadNamePrefix("chat-batch-");
+        scheduler.initialize();
+        this.batchSize = DistributionSummary.builder("chat.message.batch.size")
+                .description("묶음 전송 한 프레임에 담긴 메시지 수")
+                .register(meterRegistry);
+    }
+
+    public boolean isEnabled() {
+        return properties.isCoalesce();
+    }
+
+    public void enqueue(ChatMessageDto message) {
+        if (message.getRoomId() == null) {
+            return;
+        }
+        RoomBatch room = rooms.get(message.getRoomId(), RoomBatch::new);
+        room.pending.offer(message);
+        if (room.scheduled.compareAndSet(false, true)) {
+            scheduler.schedule(() -> flush(room), scheduler.getClock().instant().plus(window));
+        }
+    }
+
+    private void flush(RoomBatch room) {
+        while (true) {
+            List<ChatMessageDto> batch = drain(room.pending);
+            if (!batch.isEmpty()) {
+                try {
+                    send(room.roomId, batch);
+                } catch (RuntimeException e) {
+                    log.warn("채팅 묶음 전송 실패. roomId={}, size={}", room.roomId, batch.size(), e);
+                }
+            }
+            if (batch.size() >= properties.getMaxBatchSize()) {
+                continue;
+            }
+            // 전송이 끝난 뒤에 플래그를 내려 같은 방의 flush 가 겹치지 않게 하고, 그 사이 들어온 메시지는 다음 window 로 예약한다
+            room.scheduled.set(false);
+            if (!room.pending.isEmpty() && room.scheduled.compareAndSet(false, true)) {
+                scheduler.schedule(() -> flush(room), scheduler.getClock().instant().plus(window));
+            }
+            return;
+        }
+    }
+
+    private List<ChatMessageDto> drain(Queue<ChatMessageDto> pending) {
+        List<ChatMessageDto> batch = new ArrayList<>();
+        ChatMessageDto message;
+        while (batch.size() < properties.getMaxBatchSize() && (message = pending.poll()) != null) {
+            batch.add(message);
+        }
+        return batch;
+    }
+
+    private void send(String roomId, List<ChatMessageDto> batch) {
+        batchSize.record(batch.size());
+        String destination = ROOM_DESTINATION_PREFIX + roomId;
+        messagingTemplate.send(destination + BATCH_DESTINATION_SUFFIX, message(serialize(objectMapper, batch), JSON));
+        if (properties.isCbor()) {
+            messagingTemplate.send(destination + CBOR_DESTINATION_SUFFIX, message(serialize(cborMapper, batch), BINARY));
+        }
+    }
+
+    private byte[] serialize(ObjectMapper mapper, List<ChatMessageDto> batch) {
+        try {
+            return mapper.writeValueAsBytes(batch);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("채팅 묶음을 직렬화할 수 없습니다.", e);
+        }
+    }
+
+    private Message<byte[]> message(byte[] payload, MimeType contentType) {
+        SimpMessageHeaderAccessor accessor = SimpMessageHeaderAccessor.create(SimpMessageType.MESSAGE);
+        accessor.setContentType(contentType);
+        accessor.setLeaveMutable(true);
+        return MessageBuilder.createMessage(payload, accessor.getMessageHeaders());
+    }
+
+    @Override
+    public void destroy() {
+        scheduler.shutdown();
+    }
+
+    private static class RoomBatch {
+        private final String roomId;
+        private final Queue<ChatMessageDto> pending = new ConcurrentLinkedQueue<>();
+        private final AtomicBoolean scheduled = new AtomicBoolean();
+
+        private RoomBatch(String roomId) {
+            this.roomId = roomId;
+        }
+    }
+}
@@ -0,0 +1,55 @@
+package com.sparta.testcode.domain.chat.service;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 시간순으로 증가하는 채팅 메시지 ID 발급기.
+ * [41bit 밀리초 타임스탬프 | 10bit 노드 ID | 12bit 시퀀스] 구조이며 CAS 로만 갱신한다.
+ * 같은 밀리초에 시퀀스를 모두 쓰면 다음 밀리초를 미리 사용하고, 시계가 뒤로 가도 값은 감소하지 않는다.
+ */
+@Component
+public class ChatMessageIdGenerator {
+
+    private static final long EPOCH = 1704067200000L; // 2024-01-01T00:00:00Z
+    private static final int NODE_BITS = 10;
+    private static final int SEQUENCE_BITS = 12;
+    private static final long MAX_NODE_ID = (1L << NODE_BITS) - 1;
+    private static final long MAX_SEQUENCE = (1L << SEQUENCE_BITS) - 1;
+    private static final int TIMESTAMP_SHIFT = NODE_BITS + SEQUENCE_BITS;
+
+    private final long nodeId;
+    private final AtomicLong lastId = new AtomicLong();
+
+    public ChatMessageIdGenerator(@Value("${chat.node-id:0}") long nodeId) {
+        if (nodeId < 0 || nodeId > MAX_NODE_ID) {
+            throw new IllegalArgumentException("chat.node-id 는 0 ~ " + MAX_NODE_ID + " 사이여야 합니다.: " + nodeId);
+        }
+        this.nodeId = nodeId;
+    }
+
+    public long nextId() {
+        while (true) {
+            long last = lastId.get();
+            long lastTimestamp = last >>> TIMESTAMP_SHIFT;
+            long timestamp = System.currentTimeMillis() - EPOCH;
+
+            long sequence = 0;
+            if (timestamp <= lastTimestamp) {
+                timestamp = lastTimestamp;
+                sequence = (last & MAX_SEQUENCE) + 1;
+                if (sequence > MAX_SEQUENCE) {
+                    timestamp++;
+                    sequence = 0;
+                }
+            }
+
+            long next = (timestamp << TIMESTAMP_SHIFT) | (nodeId << SEQUENCE_BITS) | sequence;
+            if (lastId.compareAndSet(last, next)) {
+                return next;
+            }
+        }
+    }
+}
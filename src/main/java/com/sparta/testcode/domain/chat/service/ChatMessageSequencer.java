@@ -0,0 +1,119 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.dto.ChatReplayDto;
+import com.sparta.testcode.global.config.ChatBrokerProperties;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * 방마다 메시지 순번을 매기고 최근 buffer-size 개를 링 버퍼에 남겨 재연결한 클라이언트에게 놓친 구간을 다시 보낸다.
+ * 순번은 AtomicLong 증가로, 버퍼 기록은 슬롯 하나에 대한 set 으로 끝나 락을 잡지 않는다.
+ * 동시에 보낸 메시지는 순번과 브로커 전달 순서가 다를 수 있으므로 클라이언트는 seq 로 정렬하고 중복을 버린다.
+ * 방 버퍼가 유휴 시간으로 제거되었다가 다시 만들어지면(또는 노드가 재시작하면) epoch 가 바뀌어 클라이언트가 알 수 있다.
+ * 순번은 이 노드 기준이라 relay 모드에서 여러 노드가 같은 방을 다루면 어긋나므로, relay 모드에서는 순번을 매기지 않고
+ * 재연결 요청에 항상 reset 을 돌려 이력 API 로 다시 불러오게 한다.
+ */
+@Service
+public class ChatMessageSequencer {
+
+    private final boolean enabled;
+    private final int bufferSize;
+    private final Cache<String, RoomLog> rooms;
+    private final AtomicLong lastEpoch = new AtomicLong();
+
+    public ChatMessageSequencer(@Value("${chat.broker.mode:simple}") ChatBrokerProperties.Mode brokerMode,
+                                @Value("${chat.replay.buffer-size:256}") int bufferSize,
+                                @Value("${chat.replay.max-rooms:10000}") long maxRooms,
+                                @Value("${chat.replay.idle-timeout:1h}") Duration idleTimeout) {
+        this.enabled = brokerMode == ChatBrokerProperties.Mode.SIMPLE;
+        // 순번을 슬롯 위치로 바꿀 때 나머지 대신 비트 마스크를 쓰도록 2 의 거듭제곱으로 올린다
+        this.bufferSize = Integer.highestOneBit(Math.max(bufferSize, 1) * 2 - 1);
+        this.rooms = Caffeine.newBuilder()
+                .maximumSize(maxRooms)
+                .expireAfterAccess(idleTimeout)
+                .build();
+    }
+
+    /**
+     * message 에 seq, epoch, timestamp 를 채우고 버퍼에 기록한다. relay 모드에서는 timestamp 만 채운다.
+     */
+    public void assign(ChatMessageDto message) {
+        if (!enabled) {
+            message.setTimestamp(System.currentTimeMillis());
+            return;
+        }
+        if (message.getRoomId() == null) {
+            return;
+        }
+        RoomLog room = rooms.get(message.getRoomId(), roomId -> new RoomLog(bufferSize, nextEpoch()));
+        long seq = room.sequence.incrementAndGet();
+        message.setSeq(seq);
+        message.setEpoch(room.epoch);
+        message.setTimestamp(System.currentTimeMillis());
+        room.buffer.set(room.slot(seq), message);
+    }
+
+    /**
+     * epoch 의 lastSeq 이후 메시지를 순번 순으로 돌려준다.
+     */
+    public ChatReplayDto replay(String roomId, long epoch, long lastSeq) {
+        if (!enabled) {
+            return new ChatReplayDto(0, 0, true, List.of());
+        }
+        RoomLog room = rooms.getIfPresent(roomId);
+        if (room == null) {
+            return new ChatReplayDto(0, 0, epoch != 0 || lastSeq != 0, List.of());
+        }
+        long currentSeq = room.sequence.get();
+        if (room.epoch != epoch || lastSeq > currentSeq || currentSeq - lastSeq > room.buffer.length()) {
+            return new ChatReplayDto(room.epoch, currentSeq, true, List.of());
+        }
+
+        List<ChatMessageDto> messages = new ArrayList<>((int) (currentSeq - lastSeq));
+        for (long seq = lastSeq + 1; seq <= currentSeq; seq++) {
+            ChatMessageDto message = room.buffer.get(room.slot(seq));
+            if (message == null || message.getSeq() < seq) {
+                // 순번은 받았지만 아직 버퍼에 기록되기 전인 메시지, 이후는 구독으로 받는다
+                break;
+            }
+            if (message.getSeq() > seq) {
+                // 읽는 사이 새 메시지가 슬롯을 덮어썼다
+                return new ChatReplayDto(room.epoch, currentSeq, true, List.of());
+            }
+            messages.add(message);
+        }
+        return new ChatReplayDto(room.epoch, currentSeq, false, messages);
+    }
+
+    // 같은 밀리초에 여러 방이 만들어져도 epoch 가 겹치지 않도록 이전 값보다 크게 만든다
+    private long nextEpoch() {
+        long now = System.currentTimeMillis();
+        return lastEpoch.updateAndGet(previous -> Math.max(previous + 1, now));
+    }
+
+    private static class RoomLog {
+        private final long epoch;
+        private final AtomicLong sequence = new AtomicLong();
+        private final AtomicReferenceArray<ChatMessageDto> buffer;
+        private final int mask;
+
+        private RoomLog(int bufferSize, long epoch) {
+            this.epoch = epoch;
+            this.buffer = new AtomicReferenceArray<>(bufferSize);
+            this.mask = bufferSize - 1;
+        }
+
+        private int slot(long seq) {
+            return (int) (seq & mask);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ChatMessageService {
+
+    private final ChatMessageIdGenerator idGenerator;
+    private final ChatMessageWriter chatMessageWriter;
+    private final ChatHistoryService chatHistoryService;
+
+    public void record(ChatMessageDto message) {
+        // 필수 값이 없는 메시지가 배치 전체의 INSERT 를 실패시키지 않도록 저장 대상에서 제외한다
+        if (message.getRoomId() == null || message.getSender() == null || message.getType() == null) {
+            log.debug("필수 값이 없는 채팅 메시지는 저장하지 않습니다. roomId={}", message.getRoomId());
+            return;
+        }
+        // 식별자는 잘라서 저장하면 다른 방/사용자의 메시지가 되므로 컬럼 길이를 넘으면 저장하지 않는다, 본문은 엔티티에서 자른다
+        if (message.getRoomId().length() > ChatMessage.MAX_ID_LENGTH || message.getSender().length() > ChatMessage.MAX_ID_LENGTH) {
+            log.debug("방 id 나 보낸 사람이 너무 긴 채팅 메시지는 저장하지 않습니다. roomIdLength={}, senderLength={}",
+                    message.getRoomId().length(), message.getSender().length());
+            return;
+        }
+        ChatMessage chatMessage = ChatMessage.create(idGenerator.nextId(), message, LocalDateTime.now());
+        chatMessageWriter.append(chatMessage);
+        chatHistoryService.append(chatMessage);
+    }
+}
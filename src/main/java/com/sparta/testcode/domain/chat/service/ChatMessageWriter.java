@@ -0,0 +1,189 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.SmartLifecycle;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * 채팅 메시지를 비동기로 모아서 저장한다.
+ * STOMP 인바운드 스레드는 제한된 버퍼에 넣기만 하고 즉시 반환하며,
+ * 전용 스레드가 batch-size 또는 flush-interval 기준으로 다중 행 배치 INSERT 를 수행한다.
+ * DB 가 느려 버퍼가 가득 차면 새 메시지의 저장을 포기하고(브로드캐스트는 그대로 진행) 카운터로 남긴다.
+ * 배치 INSERT 가 실패하면 한 건씩 다시 저장해 문제가 있는 행만 버린다.
+ */
+@Slf4j
+@Component
+public class ChatMessageWriter implements SmartLifecycle {
+
+    private static final String INSERT_SQL =
+            "insert into chat_message (id, room_id, sender, type, message, created_at, seq, epoch) values (?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final BlockingQueue<ChatMessage> buffer;
+    private final int batchSize;
+    private final Duration flushInterval;
+    private final Counter writtenCounter;
+    private final Counter droppedCounter;
+    private final Counter failedCounter;
+
+    private volatile boolean running;
+    private Thread flusher;
+
+    public ChatMessageWriter(JdbcTemplate jdbcTemplate,
+                             MeterRegistry meterRegistry,
+                             @Value("${chat.persistence.buffer-capacity:10000}") int bufferCapacity,
+                             @Value("${chat.persistence.batch-size:500}") int batchSize,
+                             @Value("${chat.persistence.flush-interval:200ms}") Duration flushInterval) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.buffer = new ArrayBlockingQueue<>(bufferCapacity);
+        this.batchSize = batchSize;
+        this.flushInterval = flushInterval;
+
+        Gauge.builder("chat.persistence.buffer.size", buffer, BlockingQueue::size)
+                .description("저장 대기 중인 채팅 메시지 수")
+                .register(meterRegistry);
+        this.writtenCounter = Counter.builder("chat.persistence.written")
+                .description("저장된 채팅 메시지 수")
+                .register(meterRegistry);
+        this.droppedCounter = Counter.builder("chat.persistence.dropped")
+                .description("버퍼가 가득 차 저장하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+        this.failedCounter = Counter.builder("chat.persistence.failed")
+                .description("INSERT 실패로 저장하지 못한 채팅 메시지 수")
+                .register(meterRegistry);
+    }
+
+    /**
+     * 저장 버퍼에 메시지를 넣는다. 버퍼가 가득 차 있으면 기다리지 않고 false 를 반환한다.
+     */
+    public boolean append(ChatMessage message) {
+        if (buffer.offer(message)) {
+            return true;
+        }
+        droppedCounter.increment();
+        log.warn("채팅 메시지 저장 버퍼가 가득 찼습니다. roomId={}, id={}", message.getRoomId(), message.getId());
+        return false;
+    }
+
+    @Override
+    public void start() {
+        running = true;
+        flusher = new Thread(this::flushLoop, "chat-message-writer");
+        flusher.setDaemon(true);
+        flusher.start();
+    }
+
+    @Override
+    public void stop() {
+        running = false;
+        try {
+            // 루프는 flush-interval 마다 running 을 확인하고, 종료 전에 남은 메시지를 모두 저장한다
+            flusher.join(flushInterval.toMillis() * 10 + 5000);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public boolean isRunning() {
+        return running;
+    }
+
+    private void flushLoop() {
+        List<ChatMessage> batch = new ArrayList<>(batchSize);
+        try {
+            while (running) {
+                collect(batch);
+                flush(batch);
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        } finally {
+            flush(batch);
+            while (buffer.drainTo(batch, batchSize) > 0) {
+                flush(batch);
+            }
+        }
+    }
+
+    private void collect(List<ChatMessage> batch) throws InterruptedException {
+        ChatMessage first = buffer.poll(flushInterval.toMillis(), TimeUnit.MILLISECONDS);
+        if (first == null) {
+            return;
+        }
+        batch.add(first);
+
+        long deadline = System.nanoTime() + flushInterval.toNanos();
+        while (batch.size() < batchSize) {
+            buffer.drainTo(batch, batchSize - batch.size());
+            long remaining = deadline - System.nanoTime();
+            if (batch.size() >= batchSize || remaining <= 0) {
+                return;
+            }
+            ChatMessage next = buffer.poll(remaining, TimeUnit.NANOSECONDS);
+            if (next == null) {
+                return;
+            }
+            batch.add(next);
+        }
+    }
+
+    void flush(List<ChatMessage> batch) {
+        if (batch.isEmpty()) {
+            return;
+        }
+        try {
+            jdbcTemplate.batchUpdate(INSERT_SQL, batch, batch.size(), this::bind);
+            writtenCounter.increment(batch.size());
+        } catch (RuntimeException e) {
+            log.warn("채팅 메시지 배치 저장에 실패해 한 건씩 다시 저장합니다. size={}", batch.size(), e);
+            insertEach(batch);
+        } finally {
+            batch.clear();
+        }
+    }
+
+    // 배치 중 일부 문장은 이미 커밋되었을 수 있으므로 키 중복은 저장된 것으로 본다
+    private void insertEach(List<ChatMessage> batch) {
+        for (ChatMessage message : batch) {
+            try {
+                jdbcTemplate.update(INSERT_SQL, ps -> bind(ps, message));
+                writtenCounter.increment();
+            } catch (DuplicateKeyException e) {
+                writtenCounter.increment();
+            } catch (RuntimeException e) {
+                failedCounter.increment();
+                log.error("채팅 메시지 저장에 실패했습니다. roomId={}, id={}", message.getRoomId(), message.getId(), e);
+            }
+        }
+    }
+
+    private void bind(PreparedStatement ps, ChatMessage message) throws SQLException {
+        ps.setLong(1, message.getId());
+        ps.setString(2, message.getRoomId());
+        ps.setString(3, message.getSender());
+        ps.setString(4, message.getType().name());
+        ps.setString(5, message.getMessage());
+        ps.setTimestamp(6, Timestamp.valueOf(message.getCreatedAt()));
+        ps.setObject(7, message.getSeq(), Types.BIGINT);
+        ps.setObject(8, message.getEpoch(), Types.BIGINT);
+    }
+}
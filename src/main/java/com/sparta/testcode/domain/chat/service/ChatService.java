@@ -1,25 +1,105 @@
 package com.sparta.testcode.domain.chat.service;
 
 import com.sparta.testcode.domain.chat.dto.ChatRoomDto;
+import com.sparta.testcode.domain.chat.dto.ChatRoomPageDto;
+import com.sparta.testcode.domain.chat.entity.ChatRoom;
+import com.sparta.testcode.domain.chat.repository.ChatRoomRepository;
+import jakarta.annotation.PostConstruct;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
 
-import java.util.*;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentNavigableMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.concurrent.atomic.AtomicLong;
 
+/**
+ * 채팅방 목록.
+ * id 조회는 ConcurrentHashMap 으로 락 없이 처리하고, 생성 순서는 순번을 키로 하는 ConcurrentSkipListMap 으로 유지해
+ * 목록 조회가 전체 맵을 복사하지 않고 after 이후부터 필요한 만큼만 순회한다.
+ * chat.room.persistent 가 true 이면 방 정보를 chat_room 에 저장하고 시작 시 다시 읽어 재시작 후에도 유지한다.
+ */
 @Service
 public class ChatService {
-    private Map<String, ChatRoomDto> chatRooms = new LinkedHashMap<>();
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final ChatRoomRepository chatRoomRepository;
+    private final boolean persistent;
+
+    private final ConcurrentHashMap<String, Entry> chatRooms = new ConcurrentHashMap<>();
+    private final ConcurrentSkipListMap<Long, ChatRoomDto> orderedRooms = new ConcurrentSkipListMap<>();
+    private final AtomicLong sequence = new AtomicLong();
+
+    public ChatService(ChatRoomRepository chatRoomRepository,
+                       @Value("${chat.room.persistent:false}") boolean persistent) {
+        this.chatRoomRepository = chatRoomRepository;
+        this.persistent = persistent;
+    }
+
+    @PostConstruct
+    void loadRooms() {
+        if (!persistent) {
+            return;
+        }
+        for (ChatRoom chatRoom : chatRoomRepository.findAllByOrderByCreatedAtAscRoomIdAsc()) {
+            register(ChatRoomDto.of(chatRoom.getRoomId(), chatRoom.getRoomName()));
+        }
+    }
 
     public List<ChatRoomDto> findAllRoom() {
-        return new ArrayList<>(chatRooms.values());
+        return new ArrayList<>(orderedRooms.values());
+    }
+
+    public ChatRoomPageDto findRooms(String after, int size) {
+        int pageSize = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+
+        ConcurrentNavigableMap<Long, ChatRoomDto> view = orderedRooms;
+        if (after != null) {
+            Entry entry = chatRooms.get(after);
+            if (entry == null) {
+                throw new IllegalArgumentException("존재하지 않는 채팅방입니다.: " + after);
+            }
+            view = orderedRooms.tailMap(entry.sequence(), false);
+        }
+
+        List<ChatRoomDto> rooms = new ArrayList<>(pageSize);
+        Iterator<ChatRoomDto> iterator = view.values().iterator();
+        while (rooms.size() < pageSize && iterator.hasNext()) {
+            rooms.add(iterator.next());
+        }
+
+        boolean hasNext = iterator.hasNext();
+        String nextAfter = hasNext ? rooms.get(rooms.size() - 1).getRoomId() : null;
+        return new ChatRoomPageDto(rooms, nextAfter, hasNext);
     }
 
     public ChatRoomDto findRoomById(String roomId) {
-        return chatRooms.get(roomId);
+        Entry entry = chatRooms.get(roomId);
+        return entry != null ? entry.room() : null;
     }
 
     public ChatRoomDto createRoom(String name) {
         ChatRoomDto room = ChatRoomDto.create(name);
-        chatRooms.put(room.getRoomId(), room);
+        if (persistent) {
+            // 저장에 실패한 방이 목록에 남지 않도록 먼저 저장한다
+            chatRoomRepository.save(new ChatRoom(room.getRoomId(), room.getRoomName(), LocalDateTime.now()));
+        }
+        register(room);
         return room;
     }
+
+    private void register(ChatRoomDto room) {
+        long seq = sequence.incrementAndGet();
+        if (chatRooms.putIfAbsent(room.getRoomId(), new Entry(seq, room)) == null) {
+            orderedRooms.put(seq, room);
+        }
+    }
+
+    private record Entry(long sequence, ChatRoomDto room) {
+    }
 }
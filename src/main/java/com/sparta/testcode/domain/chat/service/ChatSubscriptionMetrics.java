@@ -0,0 +1,139 @@
+package com.sparta.testcode.domain.chat.service;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import java.util.HashSet;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * WebSocket 세션 수와 채팅방별 구독자 수 게이지.
+ * 방 id 는 태그가 되므로 게이지를 등록하는 방의 수를 chat.metrics.max-room-gauges 로 제한하고,
+ * 구독자가 0 이 된 방의 게이지는 제거한다.
+ * 구독자는 세션 단위로 세므로 한 세션이 같은 방을 여러 목적지(기본, /batch 등)로 구독해도 한 명이다.
+ */
+@Component
+public class ChatSubscriptionMetrics {
+
+    private static final String ROOM_DESTINATION_PREFIX = "/topic/chat/room/";
+
+    private final MeterRegistry meterRegistry;
+    private final int maxRoomGauges;
+
+    // 세션 id -> (구독 id -> 방 id)
+    private final Map<String, Map<String, String>> sessions = new ConcurrentHashMap<>();
+    private final Map<String, RoomSubscribers> rooms = new ConcurrentHashMap<>();
+
+    public ChatSubscriptionMetrics(MeterRegistry meterRegistry,
+                                   @Value("${chat.metrics.max-room-gauges:1000}") int maxRoomGauges) {
+        this.meterRegistry = meterRegistry;
+        this.maxRoomGauges = maxRoomGauges;
+        Gauge.builder("chat.websocket.sessions", sessions, Map::size)
+                .description("연결된 STOMP 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.rooms.subscribed", rooms, Map::size)
+                .description("구독자가 있는 채팅방 수")
+                .register(meterRegistry);
+    }
+
+    @EventListener
+    public void onConnected(SessionConnectedEvent event) {
+        sessions.putIfAbsent(SimpMessageHeaderAccessor.getSessionId(event.getMessage().getHeaders()), new ConcurrentHashMap<>());
+    }
+
+    @EventListener
+    public void onSubscribe(SessionSubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        String destination = accessor.getDestination();
+        if (destination == null || !destination.startsWith(ROOM_DESTINATION_PREFIX)) {
+            return;
+        }
+        // 묶음 전송 구독(/topic/chat/room/{roomId}/batch...)도 같은 방으로 센다
+        String roomId = destination.substring(ROOM_DESTINATION_PREFIX.length());
+        int slash = roomId.indexOf('/');
+        if (slash >= 0) {
+            roomId = roomId.substring(0, slash);
+        }
+        Map<String, String> subscriptions = sessions.computeIfAbsent(accessor.getSessionId(), id -> new ConcurrentHashMap<>());
+        synchronized (subscriptions) {
+            boolean firstInRoom = !subscriptions.containsValue(roomId);
+            if (subscriptions.putIfAbsent(accessor.getSubscriptionId(), roomId) == null && firstInRoom) {
+                increment(roomId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onUnsubscribe(SessionUnsubscribeEvent event) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.wrap(event.getMessage());
+        Map<String, String> subscriptions = sessions.get(accessor.getSessionId());
+        if (subscriptions == null || accessor.getSubscriptionId() == null) {
+            return;
+        }
+        synchronized (subscriptions) {
+            String roomId = subscriptions.remove(accessor.getSubscriptionId());
+            if (roomId != null && !subscriptions.containsValue(roomId)) {
+                decrement(roomId);
+            }
+        }
+    }
+
+    @EventListener
+    public void onDisconnect(SessionDisconnectEvent event) {
+        Map<String, String> subscriptions = sessions.remove(event.getSessionId());
+        if (subscriptions != null) {
+            synchronized (subscriptions) {
+                new HashSet<>(subscriptions.values()).forEach(this::decrement);
+            }
+        }
+    }
+
+    public int subscriberCount(String roomId) {
+        RoomSubscribers subscribers = rooms.get(roomId);
+        return subscribers != null ? subscribers.count.get() : 0;
+    }
+
+    private void increment(String roomId) {
+        rooms.compute(roomId, (id, subscribers) -> {
+            if (subscribers == null) {
+                subscribers = new RoomSubscribers();
+                if (rooms.size() < maxRoomGauges) {
+                    subscribers.gauge = Gauge.builder("chat.room.subscribers", subscribers.count, AtomicInteger::get)
+                            .description("채팅방 구독자 수")
+                            .tag("room", id)
+                            .register(meterRegistry);
+                }
+            }
+            subscribers.count.incrementAndGet();
+            return subscribers;
+        });
+    }
+
+    private void decrement(String roomId) {
+        rooms.computeIfPresent(roomId, (id, subscribers) -> {
+            if (subscribers.count.decrementAndGet() > 0) {
+                return subscribers;
+            }
+            if (subscribers.gauge != null) {
+                meterRegistry.remove(subscribers.gauge);
+            }
+            return null;
+        });
+    }
+
+    private static class RoomSubscribers {
+        private final AtomicInteger count = new AtomicInteger();
+        private Gauge gauge;
+    }
+}
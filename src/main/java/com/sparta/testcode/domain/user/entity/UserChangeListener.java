@@ -0,0 +1,27 @@
+package com.sparta.testcode.domain.user.entity;
+
+import com.sparta.testcode.domain.user.event.UserChangedEvent;
+import jakarta.persistence.PostRemove;
+import jakarta.persistence.PostUpdate;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Component;
+
+/**
+ * 사용자 변경/삭제를 UserChangedEvent 로 발행한다.
+ * 엔티티 생명주기에 걸어 두어 어느 서비스나 저장소 호출로 바뀌어도 빠지지 않으며, 캐시를 가진 쪽이 이벤트를 받아 처리한다.
+ */
+@Component
+public class UserChangeListener {
+
+    private final ApplicationEventPublisher eventPublisher;
+
+    public UserChangeListener(ApplicationEventPublisher eventPublisher) {
+        this.eventPublisher = eventPublisher;
+    }
+
+    @PostUpdate
+    @PostRemove
+    public void publish(User user) {
+        eventPublisher.publishEvent(new UserChangedEvent(user.getUsername()));
+    }
+}
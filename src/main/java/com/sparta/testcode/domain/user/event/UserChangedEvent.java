@@ -0,0 +1,7 @@
+package com.sparta.testcode.domain.user.event;
+
+/**
+ * 사용자 정보가 바뀌거나 삭제되었음을 알린다. 변경 트랜잭션 안에서 발행된다.
+ */
+public record UserChangedEvent(String username) {
+}
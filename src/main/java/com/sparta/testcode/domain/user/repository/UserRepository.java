@@ -2,9 +2,11 @@ package com.sparta.testcode.domain.user.repository;
 
 import com.sparta.testcode.domain.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.transaction.annotation.Transactional;
 
 import java.util.Optional;
 
 public interface UserRepository extends JpaRepository<User, Long> {
+    @Transactional(readOnly = true)
     Optional<User> findByUsername(String username);
 }
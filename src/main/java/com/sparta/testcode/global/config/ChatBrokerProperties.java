@@ -0,0 +1,38 @@
+package com.sparta.testcode.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * STOMP 브로커 설정.
+ * SIMPLE 은 구독 정보를 JVM 안에만 두는 내장 브로커이고,
+ * RELAY 는 외부 STOMP 브로커(RabbitMQ STOMP 플러그인, ActiveMQ Artemis 등)로 중계해
+ * 여러 채팅 노드가 같은 방의 메시지를 함께 받을 수 있게 한다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.broker")
+public class ChatBrokerProperties {
+
+    private Mode mode = Mode.SIMPLE;
+    private final Relay relay = new Relay();
+
+    public enum Mode {
+        SIMPLE, RELAY
+    }
+
+    @Getter
+    @Setter
+    public static class Relay {
+        private String host = "localhost";
+        private int port = 61613;
+        private String virtualHost;
+        private String clientLogin = "guest";
+        private String clientPasscode = "guest";
+        private String systemLogin = "guest";
+        private String systemPasscode = "guest";
+        private long systemHeartbeatSendInterval = 10000;
+        private long systemHeartbeatReceiveInterval = 10000;
+    }
+}
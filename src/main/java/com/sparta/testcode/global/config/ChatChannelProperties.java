@@ -0,0 +1,20 @@
+package com.sparta.testcode.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+/**
+ * STOMP clientInboundChannel / clientOutboundChannel 실행기 설정.
+ * spring.threads.virtual.enabled 가 true 이고 Java 21 이상에서 실행될 때만 가상 스레드 실행기를 사용하고,
+ * 그 외에는 스프링 기본 실행기(코어 수 * 2 개의 플랫폼 스레드)를 그대로 쓴다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.channel")
+public class ChatChannelProperties {
+
+    // 채널마다 동시에 실행될 수 있는 가상 스레드 수 상한
+    private int virtualThreadLimit = 1000;
+    private int queueCapacity = Integer.MAX_VALUE;
+}
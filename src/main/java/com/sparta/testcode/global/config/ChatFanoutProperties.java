@@ -0,0 +1,30 @@
+package com.sparta.testcode.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+
+/**
+ * 채팅 메시지 묶음 전송 설정.
+ * coalesce 가 true 이면 기존 /topic/chat/room/{roomId} 전송은 그대로 두고,
+ * window 동안 모인 메시지를 한 번만 직렬화해 /topic/chat/room/{roomId}/batch 로 한 프레임에 보낸다.
+ * cbor 가 true 이면 같은 묶음을 CBOR 로도 직렬화해 /topic/chat/room/{roomId}/batch/cbor 로 보낸다.
+ * CBOR 는 바이너리 프레임이 필요하므로 SockJS 가 아닌 /ws-stomp-native 엔드포인트로 연결한 클라이언트만 받을 수 있다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.fanout")
+public class ChatFanoutProperties {
+
+    private boolean coalesce;
+    private Duration window = Duration.ofMillis(20);
+    // 한 프레임에 담을 최대 메시지 수, 넘치면 곧바로 다음 프레임으로 보낸다
+    private int maxBatchSize = 100;
+    private boolean cbor;
+    // 묶음 직렬화와 전송을 맡는 스레드 수, 0 이면 CPU 코어 수
+    private int poolSize;
+    private long maxRooms = 10_000;
+    private Duration idleTimeout = Duration.ofHours(1);
+}
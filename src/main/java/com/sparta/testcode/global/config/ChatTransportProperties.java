@@ -0,0 +1,37 @@
+package com.sparta.testcode.global.config;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+import org.springframework.util.unit.DataSize;
+
+import java.time.Duration;
+
+/**
+ * WebSocket 전송 한도와 느린 구독자 처리 설정.
+ * 메시지는 세션마다의 전송 대기열에 쌓였다가 쓰는 중인 세션마다 하나씩 배정되는 전송 스레드가 보내며,
+ * 대기열이 max-pending-messages 에 닿으면 policy 를 적용하고 어떤 정책이든 disconnect-pending-messages 에 닿으면 세션을 닫는다.
+ * 한 번의 쓰기가 send-time-limit 를 넘겨도 세션을 닫는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "chat.transport")
+public class ChatTransportProperties {
+
+    private Duration sendTimeLimit = Duration.ofSeconds(10);
+    private DataSize messageSizeLimit = DataSize.ofKilobytes(64);
+    private int maxPendingMessages = 1000;
+    private int disconnectPendingMessages = 5000;
+    private SlowConsumerPolicy policy = SlowConsumerPolicy.DROP_NON_CRITICAL;
+    // 유휴 상태로 남겨 둘 전송 스레드 수, 0 이면 CPU 코어 수의 두 배. 쓰는 중인 세션이 더 많으면 스레드를 더 만든다
+    private int senderPoolSize = 0;
+
+    public enum SlowConsumerPolicy {
+        // 대기 중인 메시지 중 오래된 것부터 버린다
+        DROP_OLDEST,
+        // 입장(ENTER) 알림처럼 놓쳐도 되는 메시지만 버린다
+        DROP_NON_CRITICAL,
+        // 세션을 닫아 클라이언트가 재연결 후 replay 로 이어 받게 한다
+        DISCONNECT
+    }
+}
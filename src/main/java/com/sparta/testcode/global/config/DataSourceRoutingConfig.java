@@ -0,0 +1,73 @@
+package com.sparta.testcode.global.config;
+
+import com.sparta.testcode.global.datasource.ReadYourWritesTracker;
+import com.sparta.testcode.global.datasource.ReplicaRoutingDataSource;
+import com.sparta.testcode.global.datasource.RoutingDataSourceProperties;
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.jdbc.DataSourceBuilder;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.context.annotation.Primary;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+
+import javax.sql.DataSource;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * datasource.routing.enabled=true 일 때 primary / replica 라우팅 데이터소스를 등록한다.
+ * 기존 @Transactional(readOnly = true) 가 그대로 replica 로 가는 기준이 된다.
+ * open-in-view 가 켜져 있으면 요청 동안 EntityManager 가 처음 잡은 연결을 계속 쓰므로,
+ * 읽기 전용 조회 뒤의 쓰기가 replica 로 간다. 그래서 둘을 함께 켜면 기동하지 않는다.
+ */
+@Configuration
+@ConditionalOnProperty(prefix = "datasource.routing", name = "enabled", havingValue = "true")
+@EnableConfigurationProperties(RoutingDataSourceProperties.class)
+public class DataSourceRoutingConfig {
+
+    public DataSourceRoutingConfig(@Value("${spring.jpa.open-in-view:true}") boolean openInView) {
+        if (openInView) {
+            throw new IllegalStateException("datasource.routing.enabled=true 이면 spring.jpa.open-in-view=false 로 설정해야 합니다.");
+        }
+    }
+
+    @Bean
+    public ReadYourWritesTracker readYourWritesTracker(RoutingDataSourceProperties properties) {
+        return new ReadYourWritesTracker(properties.getStickyDuration());
+    }
+
+    @Bean
+    public ReplicaRoutingDataSource replicaRoutingDataSource(RoutingDataSourceProperties properties,
+                                                             ReadYourWritesTracker readYourWritesTracker) {
+        DataSource primary = createDataSource("primary", properties.getPrimary());
+        List<DataSource> replicas = new ArrayList<>();
+        for (int i = 0; i < properties.getReplicas().size(); i++) {
+            HikariDataSource replica = createDataSource("replica-" + i, properties.getReplicas().get(i));
+            replica.setConnectionTimeout(properties.getReplicaConnectionTimeout().toMillis());
+            replicas.add(replica);
+        }
+        return new ReplicaRoutingDataSource(primary, replicas, readYourWritesTracker, properties.getHealthCheckInterval());
+    }
+
+    @Bean
+    @Primary
+    public DataSource dataSource(ReplicaRoutingDataSource replicaRoutingDataSource) {
+        return new LazyConnectionDataSourceProxy(replicaRoutingDataSource);
+    }
+
+    private HikariDataSource createDataSource(String poolName, RoutingDataSourceProperties.Node node) {
+        HikariDataSource dataSource = DataSourceBuilder.create()
+                .type(HikariDataSource.class)
+                .url(node.getUrl())
+                .username(node.getUsername())
+                .password(node.getPassword())
+                .driverClassName(node.getDriverClassName())
+                .build();
+        dataSource.setPoolName(poolName);
+        dataSource.setMaximumPoolSize(node.getMaximumPoolSize());
+        return dataSource;
+    }
+}
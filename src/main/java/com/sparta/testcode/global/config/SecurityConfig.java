@@ -1,10 +1,16 @@
 package com.sparta.testcode.global.config;
 
 import com.sparta.testcode.global.jwt.JwtUtil;
+import com.sparta.testcode.global.ratelimit.RateLimitFilter;
+import com.sparta.testcode.global.ratelimit.RateLimitProperties;
 import com.sparta.testcode.global.security.JwtAuthenticationFilter;
 import com.sparta.testcode.global.security.UserDetailsServiceImpl;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Metrics;
 import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.ObjectProvider;
 import org.springframework.boot.autoconfigure.security.servlet.PathRequest;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.security.authentication.AuthenticationManager;
@@ -20,12 +26,16 @@ import org.springframework.security.web.authentication.UsernamePasswordAuthentic
 
 @Configuration
 @EnableWebSecurity
+@EnableConfigurationProperties(RateLimitProperties.class)
 @RequiredArgsConstructor
 public class SecurityConfig {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
     private final AuthenticationConfiguration authenticationConfiguration;
+    // 슬라이스 테스트처럼 메트릭 설정이 없는 컨텍스트에서는 전역(no-op) 레지스트리를 쓴다
+    private final ObjectProvider<MeterRegistry> meterRegistry;
+    private final RateLimitProperties rateLimitProperties;
 
     @Bean
     public PasswordEncoder passwordEncoder() {
@@ -39,7 +49,7 @@ public class SecurityConfig {
 
     @Bean
     public JwtAuthenticationFilter jwtAuthenticationFilter() throws Exception {
-        return new JwtAuthenticationFilter(jwtUtil, userDetailsService);
+        return new JwtAuthenticationFilter(jwtUtil, userDetailsService, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry));
     }
 
     @Bean
@@ -54,12 +64,18 @@ public class SecurityConfig {
                 authorizeHttpRequests
                         .requestMatchers(PathRequest.toStaticResources().atCommonLocations()).permitAll() // resources
                         .requestMatchers("/auth/**").permitAll() // auth endpoints
-                        .requestMatchers("/ws-stomp/**").permitAll() // websocket endpoints
+                        .requestMatchers("/ws-stomp/**", "/ws-stomp-native/**").permitAll() // websocket endpoints
                         .requestMatchers("/api/chat/**").permitAll() // chat API endpoints
+                        .requestMatchers("/actuator/health", "/actuator/prometheus").permitAll() // monitoring
                         .anyRequest().authenticated() // others protected
         );
 
         http.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class);
+        // 서블릿 필터로 중복 등록되지 않도록 빈이 아닌 시큐리티 체인에만 추가한다
+        if (rateLimitProperties.isEnabled()) {
+            http.addFilterAfter(new RateLimitFilter(rateLimitProperties, meterRegistry.getIfAvailable(() -> Metrics.globalRegistry)),
+                    JwtAuthenticationFilter.class);
+        }
 
         return http.build();
     }
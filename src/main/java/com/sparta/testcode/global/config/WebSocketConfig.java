@@ -1,18 +1,62 @@
 package com.sparta.testcode.global.config;
 
+import com.sparta.testcode.global.websocket.SlowConsumerGuard;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
+import org.springframework.boot.thread.Threading;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+import org.springframework.messaging.simp.config.ChannelRegistration;
 import org.springframework.messaging.simp.config.MessageBrokerRegistry;
+import org.springframework.messaging.simp.config.StompBrokerRelayRegistration;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.util.StringUtils;
 import org.springframework.web.socket.config.annotation.EnableWebSocketMessageBroker;
 import org.springframework.web.socket.config.annotation.StompEndpointRegistry;
 import org.springframework.web.socket.config.annotation.WebSocketMessageBrokerConfigurer;
+import org.springframework.web.socket.config.annotation.WebSocketTransportRegistration;
 
 @Configuration
 @EnableWebSocketMessageBroker
+@EnableConfigurationProperties({ChatBrokerProperties.class, ChatChannelProperties.class, ChatTransportProperties.class})
 public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
 
+    private final ChatBrokerProperties brokerProperties;
+    private final ChatChannelProperties channelProperties;
+    private final ChatTransportProperties transportProperties;
+    private final Environment environment;
+    private final SlowConsumerGuard slowConsumerGuard;
+
+    public WebSocketConfig(ChatBrokerProperties brokerProperties,
+                           ChatChannelProperties channelProperties,
+                           ChatTransportProperties transportProperties,
+                           Environment environment,
+                           SlowConsumerGuard slowConsumerGuard) {
+        this.brokerProperties = brokerProperties;
+        this.channelProperties = channelProperties;
+        this.transportProperties = transportProperties;
+        this.environment = environment;
+        this.slowConsumerGuard = slowConsumerGuard;
+    }
+
     @Override
     public void configureMessageBroker(MessageBrokerRegistry registry) {
-        registry.enableSimpleBroker("/topic");
+        if (brokerProperties.getMode() == ChatBrokerProperties.Mode.RELAY) {
+            ChatBrokerProperties.Relay relay = brokerProperties.getRelay();
+            StompBrokerRelayRegistration registration = registry.enableStompBrokerRelay("/topic")
+                    .setRelayHost(relay.getHost())
+                    .setRelayPort(relay.getPort())
+                    .setClientLogin(relay.getClientLogin())
+                    .setClientPasscode(relay.getClientPasscode())
+                    .setSystemLogin(relay.getSystemLogin())
+                    .setSystemPasscode(relay.getSystemPasscode())
+                    .setSystemHeartbeatSendInterval(relay.getSystemHeartbeatSendInterval())
+                    .setSystemHeartbeatReceiveInterval(relay.getSystemHeartbeatReceiveInterval());
+            if (StringUtils.hasText(relay.getVirtualHost())) {
+                registration.setVirtualHost(relay.getVirtualHost());
+            }
+        } else {
+            registry.enableSimpleBroker("/topic");
+        }
         registry.setApplicationDestinationPrefixes("/app");
     }
 
@@ -21,5 +65,43 @@ public class WebSocketConfig implements WebSocketMessageBrokerConfigurer {
         registry.addEndpoint("/ws-stomp")
                 .setAllowedOriginPatterns("*")
                 .withSockJS();
+        // SockJS 는 텍스트 프레임만 지원하므로 CBOR 묶음 같은 바이너리 프레임은 순수 WebSocket 엔드포인트로 받는다
+        registry.addEndpoint("/ws-stomp-native")
+                .setAllowedOriginPatterns("*");
+    }
+
+    @Override
+    public void configureWebSocketTransport(WebSocketTransportRegistration registration) {
+        // 스프링의 send-time-limit / send-buffer-size-limit 는 감싼 세션의 sendMessage 가 막힐 때만 동작하는데,
+        // SlowConsumerGuard 의 세션은 대기열에 넣고 바로 돌아오므로 설정하지 않고 전송 한도는 SlowConsumerGuard 에서 적용한다
+        registration.setMessageSizeLimit((int) transportProperties.getMessageSizeLimit().toBytes())
+                .addDecoratorFactory(slowConsumerGuard::decorate);
+    }
+
+    @Override
+    public void configureClientInboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("ws-inbound-"));
+        }
+    }
+
+    @Override
+    public void configureClientOutboundChannel(ChannelRegistration registration) {
+        if (Threading.VIRTUAL.isActive(environment)) {
+            registration.executor(virtualThreadExecutor("ws-outbound-"));
+        }
+    }
+
+    // ChannelRegistration 은 ThreadPoolTaskExecutor 만 받으므로 작업마다 가상 스레드를 만드는 대신
+    // 가상 스레드로 채워지는 풀을 넉넉한 상한으로 두고 유휴 스레드는 정리되게 한다
+    private ThreadPoolTaskExecutor virtualThreadExecutor(String threadNamePrefix) {
+        ThreadPoolTaskExecutor executor = new ThreadPoolTaskExecutor();
+        executor.setVirtualThreads(true);
+        executor.setThreadNamePrefix(threadNamePrefix);
+        executor.setCorePoolSize(channelProperties.getVirtualThreadLimit());
+        executor.setMaxPoolSize(channelProperties.getVirtualThreadLimit());
+        executor.setQueueCapacity(channelProperties.getQueueCapacity());
+        executor.setAllowCoreThreadTimeOut(true);
+        return executor;
     }
 }
@@ -0,0 +1,32 @@
+package com.sparta.testcode.global.datasource;
+
+import java.util.function.Supplier;
+
+/**
+ * 복제 지연을 허용할 수 없는 읽기를 readOnly 여부와 상관없이 primary 로 보낸다.
+ * 캐시를 채우는 조회처럼 지연된 값이 한 번 읽히면 오래 남는 경우에 사용하며, 라우팅을 쓰지 않으면 아무 효과가 없다.
+ * 커넥션을 고르는 시점에 확인하므로 action 안에서 트랜잭션이 시작되어야 한다.
+ */
+public final class PrimaryRead {
+
+    private static final ThreadLocal<Boolean> REQUIRED = new ThreadLocal<>();
+
+    private PrimaryRead() {
+    }
+
+    public static <T> T execute(Supplier<T> action) {
+        if (isRequired()) {
+            return action.get();
+        }
+        REQUIRED.set(Boolean.TRUE);
+        try {
+            return action.get();
+        } finally {
+            REQUIRED.remove();
+        }
+    }
+
+    static boolean isRequired() {
+        return REQUIRED.get() != null;
+    }
+}
@@ -0,0 +1,70 @@
+package com.sparta.testcode.global.datasource;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.context.request.ServletRequestAttributes;
+
+import java.time.Duration;
+
+/**
+ * read-your-writes 보장을 위한 쓰기 기록.
+ * 쓰기 트랜잭션이 커밋되면 요청 주체(인증된 사용자, 없으면 클라이언트 IP)를 sticky-duration 동안 기억하고,
+ * 그 사이 같은 주체의 읽기는 복제가 따라오지 않았을 수 있으므로 primary 로 보낸다.
+ */
+public class ReadYourWritesTracker {
+
+    private static final Object REGISTERED = ReadYourWritesTracker.class.getName() + ".REGISTERED";
+
+    private final Cache<String, Boolean> recentWriters;
+
+    public ReadYourWritesTracker(Duration stickyDuration) {
+        this.recentWriters = Caffeine.newBuilder()
+                .expireAfterWrite(stickyDuration)
+                .build();
+    }
+
+    /**
+     * 현재 쓰기 트랜잭션이 커밋되면 요청 주체를 기록한다. 트랜잭션마다 한 번만 등록된다.
+     */
+    public void markWriteAfterCommit() {
+        String key = currentKey();
+        if (key == null || !TransactionSynchronizationManager.isSynchronizationActive()
+                || TransactionSynchronizationManager.hasResource(REGISTERED)) {
+            return;
+        }
+        TransactionSynchronizationManager.bindResource(REGISTERED, Boolean.TRUE);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(REGISTERED);
+                if (status == STATUS_COMMITTED) {
+                    recentWriters.put(key, Boolean.TRUE);
+                }
+            }
+        });
+    }
+
+    public boolean requiresPrimary() {
+        String key = currentKey();
+        return key != null && recentWriters.getIfPresent(key) != null;
+    }
+
+    private String currentKey() {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        if (attributes instanceof ServletRequestAttributes servletAttributes) {
+            return "ip:" + servletAttributes.getRequest().getRemoteAddr();
+        }
+        return null;
+    }
+}
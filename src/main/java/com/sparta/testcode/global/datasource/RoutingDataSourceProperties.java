@@ -0,0 +1,39 @@
+package com.sparta.testcode.global.datasource;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * primary / replica 데이터소스 라우팅 설정.
+ * enabled 가 true 이면 spring.datasource 대신 이 설정으로 커넥션 풀을 만든다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "datasource.routing")
+public class RoutingDataSourceProperties {
+
+    private boolean enabled;
+    private Node primary = new Node();
+    private List<Node> replicas = new ArrayList<>();
+    // replica 커넥션 검사 주기
+    private Duration healthCheckInterval = Duration.ofSeconds(5);
+    // replica 풀의 커넥션 대기 시간, 장애 replica 가 읽기와 상태 검사를 오래 붙잡지 않도록 짧게 둔다
+    private Duration replicaConnectionTimeout = Duration.ofMillis(500);
+    // 쓰기 이후 같은 사용자의 읽기를 primary 로 보내는 시간, 복제 지연보다 길게 둔다
+    private Duration stickyDuration = Duration.ofSeconds(5);
+
+    @Getter
+    @Setter
+    public static class Node {
+        private String url;
+        private String username;
+        private String password;
+        private String driverClassName;
+        private int maximumPoolSize = 10;
+    }
+}
@@ -1,5 +1,10 @@
 package com.sparta.testcode.global.exception;
 
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardVersion;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.ExceptionHandler;
@@ -12,4 +17,20 @@ public class GlobalExceptionHandler {
     public ResponseEntity<String> handleIllegalArgumentException(IllegalArgumentException ex) {
         return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ex.getMessage());
     }
+
+    // 충돌 시 클라이언트가 다시 병합할 수 있도록 현재 상태와 ETag 를 함께 보낸다
+    @ExceptionHandler(BoardConflictException.class)
+    public ResponseEntity<BoardResponseDto> handleBoardConflictException(BoardConflictException ex) {
+        BoardResponseDto current = ex.getCurrent();
+        return ResponseEntity.status(HttpStatus.CONFLICT)
+                .eTag(BoardVersion.of(current.getId(), current.getVersion(), current.getUpdatedAt()).getEtag())
+                .body(current);
+    }
+
+    @ExceptionHandler(TaskRejectedException.class)
+    public ResponseEntity<String> handleTaskRejectedException(TaskRejectedException ex) {
+        return ResponseEntity.status(HttpStatus.SERVICE_UNAVAILABLE)
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(ex.getMessage());
+    }
 }
@@ -0,0 +1,127 @@
+package com.sparta.testcode.global.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.JwsHeader;
+import io.jsonwebtoken.JwtBuilder;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.SigningKeyResolverAdapter;
+import io.jsonwebtoken.security.Keys;
+import io.jsonwebtoken.security.SignatureException;
+import org.springframework.util.StringUtils;
+
+import java.security.GeneralSecurityException;
+import java.security.Key;
+import java.security.KeyFactory;
+import java.security.PrivateKey;
+import java.security.PublicKey;
+import java.security.spec.PKCS8EncodedKeySpec;
+import java.security.spec.X509EncodedKeySpec;
+import java.util.Base64;
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * 서명 키 하나와 검증 키 여러 개를 들고 있는 키 링.
+ * 검증 키는 시작할 때 kid 별로 디코딩해 불변 맵에 올려 두므로, 검증 시에는 헤더의 kid 로 맵을 한 번 조회하는 것이 전부다.
+ * kid 가 없는 토큰은 기존 HS256 비밀키(있을 때만)로 검증한다.
+ */
+public class JwtKeyRing extends SigningKeyResolverAdapter {
+
+    private final SignatureAlgorithm algorithm;
+    private final Map<String, Key> verificationKeys;
+    private final Key legacyKey;
+    private final String signingKid;
+    private final Key signingKey;
+
+    private JwtKeyRing(SignatureAlgorithm algorithm, Map<String, Key> verificationKeys, Key legacyKey, String signingKid, Key signingKey) {
+        this.algorithm = algorithm;
+        this.verificationKeys = Map.copyOf(verificationKeys);
+        this.legacyKey = legacyKey;
+        this.signingKid = signingKid;
+        this.signingKey = signingKey;
+    }
+
+    public static JwtKeyRing create(JwtSigningProperties properties, String legacySecret) {
+        SignatureAlgorithm algorithm = SignatureAlgorithm.forName(properties.getAlgorithm());
+        Key legacyKey = StringUtils.hasText(legacySecret) ? Keys.hmacShaKeyFor(Base64.getDecoder().decode(legacySecret)) : null;
+
+        if (algorithm.isHmac()) {
+            if (legacyKey == null) {
+                throw new IllegalStateException("HS256 서명에는 jwt.secret.key 가 필요합니다.");
+            }
+            return new JwtKeyRing(algorithm, Map.of(), legacyKey, null, properties.isVerificationOnly() ? null : legacyKey);
+        }
+        if (algorithm != SignatureAlgorithm.ES256) {
+            throw new IllegalStateException("지원하지 않는 서명 알고리즘입니다.: " + properties.getAlgorithm());
+        }
+
+        Map<String, Key> verificationKeys = new HashMap<>();
+        Key signingKey = null;
+        for (JwtSigningProperties.Key key : properties.getKeys()) {
+            verificationKeys.put(key.getKid(), publicKey(key.getPublicKey()));
+            if (!properties.isVerificationOnly() && key.getKid().equals(properties.getActiveKid())) {
+                signingKey = privateKey(key.getPrivateKey());
+            }
+        }
+        if (verificationKeys.isEmpty()) {
+            throw new IllegalStateException("ES256 검증 키가 없습니다. jwt.signing.keys 를 설정해주세요.");
+        }
+        if (!properties.isVerificationOnly() && signingKey == null) {
+            throw new IllegalStateException("active-kid 에 해당하는 개인키가 없습니다.: " + properties.getActiveKid());
+        }
+        return new JwtKeyRing(algorithm, verificationKeys,
+                properties.isAcceptLegacySecret() ? legacyKey : null,
+                properties.getActiveKid(), signingKey);
+    }
+
+    public JwtBuilder sign(JwtBuilder builder) {
+        if (signingKey == null) {
+            throw new IllegalStateException("검증 전용 모드에서는 토큰을 발급할 수 없습니다.");
+        }
+        if (signingKid != null) {
+            builder.setHeaderParam(JwsHeader.KEY_ID, signingKid);
+        }
+        return builder.signWith(signingKey, algorithm);
+    }
+
+    @Override
+    public Key resolveSigningKey(JwsHeader header, Claims claims) {
+        String kid = header.getKeyId();
+        if (kid == null) {
+            if (legacyKey == null || !SignatureAlgorithm.HS256.getValue().equals(header.getAlgorithm())) {
+                throw new SignatureException("kid 가 없는 토큰은 허용되지 않습니다.");
+            }
+            return legacyKey;
+        }
+        Key key = verificationKeys.get(kid);
+        // 공개키를 HMAC 비밀키로 쓰게 하는 알고리즘 혼동을 막기 위해 헤더의 alg 도 확인한다
+        if (key == null || !algorithm.getValue().equals(header.getAlgorithm())) {
+            throw new SignatureException("알 수 없는 서명 키입니다.: " + kid);
+        }
+        return key;
+    }
+
+    private static PublicKey publicKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePublic(new X509EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("공개키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static PrivateKey privateKey(String encoded) {
+        try {
+            return KeyFactory.getInstance("EC").generatePrivate(new PKCS8EncodedKeySpec(decodePem(encoded)));
+        } catch (GeneralSecurityException | IllegalArgumentException e) {
+            throw new IllegalStateException("개인키를 읽을 수 없습니다.", e);
+        }
+    }
+
+    private static byte[] decodePem(String encoded) {
+        if (!StringUtils.hasText(encoded)) {
+            throw new IllegalArgumentException("키가 비어 있습니다.");
+        }
+        String base64 = encoded.replaceAll("-----(BEGIN|END) [A-Z ]+-----", "").replaceAll("\\s", "");
+        return Base64.getDecoder().decode(base64);
+    }
+}
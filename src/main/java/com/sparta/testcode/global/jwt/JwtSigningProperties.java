@@ -0,0 +1,38 @@
+package com.sparta.testcode.global.jwt;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 토큰 서명 키 설정.
+ * algorithm 이 HS256 이면 jwt.secret.key 하나로 서명/검증하고,
+ * ES256 이면 keys 중 active-kid 키로 서명하며 등록된 모든 공개키로 검증한다.
+ * 키를 교체할 때는 새 키를 추가하고 active-kid 를 바꾼 뒤, 액세스 토큰 만료 시간이 지나면 이전 키를 뺀다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "jwt.signing")
+public class JwtSigningProperties {
+
+    private String algorithm = "HS256";
+    private String activeKid;
+    // 개인키 없이 공개키로 검증만 하는 노드, 토큰을 발급하지 않는다
+    private boolean verificationOnly;
+    // kid 없는 토큰(HS256 으로 발급된 기존 토큰)을 jwt.secret.key 로 계속 검증할지
+    private boolean acceptLegacySecret = true;
+    private List<Key> keys = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Key {
+        private String kid;
+        // PKCS#8 (PEM 또는 Base64), 검증 전용 노드에는 두지 않는다
+        private String privateKey;
+        // X.509 SubjectPublicKeyInfo (PEM 또는 Base64)
+        private String publicKey;
+    }
+}
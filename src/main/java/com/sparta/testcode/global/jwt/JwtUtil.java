@@ -1,46 +1,78 @@
 package com.sparta.testcode.global.jwt;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.*;
-import io.jsonwebtoken.security.Keys;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.properties.EnableConfigurationProperties;
 import org.springframework.stereotype.Component;
 import org.springframework.util.StringUtils;
 
-import java.security.Key;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
 import java.util.Base64;
 import java.util.Date;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
 @Component
+@EnableConfigurationProperties(JwtSigningProperties.class)
 public class JwtUtil {
 
     public static final String AUTHORIZATION_HEADER = "Authorization";
     public static final String BEARER_PREFIX = "Bearer ";
+    public static final String REFRESH_TOKEN_HEADER = "Refresh-Token";
+    // 로그인 세션(리프레시 토큰 계열) 식별자, 세션을 폐기하면 이 값을 가진 액세스 토큰도 거절한다
+    public static final String SESSION_CLAIM = "sid";
     private final long TOKEN_TIME = 60 * 60 * 1000L; // 60 minutes
 
-    @Value("${jwt.secret.key}")
+    // ES256 검증 전용 노드처럼 비밀키가 필요 없는 경우 비워 둘 수 있다
+    @Value("${jwt.secret.key:}")
     private String secretKey;
-    private Key key;
-    private final SignatureAlgorithm signatureAlgorithm = SignatureAlgorithm.HS256;
+    @Autowired(required = false)
+    private JwtSigningProperties signingProperties;
+    @Value("${cache.jwt.maximum-size:10000}")
+    private long cacheMaximumSize = 10_000;
+    private JwtKeyRing keyRing;
+    private JwtParser jwtParser;
+    // 서명 검증을 통과한 토큰의 claims, 키는 토큰의 SHA-256 다이제스트이며 토큰의 exp 까지만 유지된다
+    private Cache<String, Claims> verifiedTokens;
+    // 폐기된 세션 id, 그 세션으로 발급된 액세스 토큰이 모두 만료될 때까지만 유지한다
+    private Cache<String, Boolean> revokedSessions;
 
     @PostConstruct
     public void init() {
-        byte[] bytes = Base64.getDecoder().decode(secretKey);
-        key = Keys.hmacShaKeyFor(bytes);
+        keyRing = JwtKeyRing.create(signingProperties != null ? signingProperties : new JwtSigningProperties(), secretKey);
+        jwtParser = Jwts.parserBuilder().setSigningKeyResolver(keyRing).build();
+        verifiedTokens = Caffeine.newBuilder()
+                .maximumSize(cacheMaximumSize)
+                .expireAfter(new ClaimsExpiry())
+                .build();
+        revokedSessions = Caffeine.newBuilder()
+                .expireAfterWrite(TOKEN_TIME, TimeUnit.MILLISECONDS)
+                .build();
     }
 
     public String createToken(String username) {
+        return createToken(username, null);
+    }
+
+    public String createToken(String username, String sessionId) {
         Date date = new Date();
 
         return BEARER_PREFIX +
-                Jwts.builder()
-                        .setSubject(username)
-                        .setExpiration(new Date(date.getTime() + TOKEN_TIME))
-                        .setIssuedAt(date)
-                        .signWith(key, signatureAlgorithm)
+                keyRing.sign(Jwts.builder()
+                                .setSubject(username)
+                                .claim(SESSION_CLAIM, sessionId)
+                                .setExpiration(new Date(date.getTime() + TOKEN_TIME))
+                                .setIssuedAt(date))
                         .compact();
     }
 
@@ -54,9 +86,9 @@ public class JwtUtil {
 
     public boolean validateToken(String token) {
         try {
-            Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token);
+            parseClaims(token);
             return true;
-        } catch (SecurityException | MalformedJwtException e) {
+        } catch (SecurityException | io.jsonwebtoken.security.SecurityException | MalformedJwtException e) {
             log.error("Invalid JWT signature, 유효하지 않는 JWT 서명 입니다.");
         } catch (ExpiredJwtException e) {
             log.error("Expired JWT token, 만료된 JWT token 입니다.");
@@ -69,6 +101,64 @@ public class JwtUtil {
     }
 
     public Claims getUserInfoFromToken(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody();
+        return parseClaims(token);
+    }
+
+    public void revokeSession(String sessionId) {
+        revokedSessions.put(sessionId, Boolean.TRUE);
+    }
+
+    public boolean isRevoked(Claims claims) {
+        String sessionId = claims.get(SESSION_CLAIM, String.class);
+        return sessionId != null && revokedSessions.getIfPresent(sessionId) != null;
+    }
+
+    public Duration getTokenTime() {
+        return Duration.ofMillis(TOKEN_TIME);
+    }
+
+    private Claims parseClaims(String token) {
+        if (!StringUtils.hasText(token)) {
+            throw new IllegalArgumentException("JWT claims is empty");
+        }
+        String digest = digest(token);
+        Claims claims = verifiedTokens.getIfPresent(digest);
+        if (claims == null) {
+            claims = jwtParser.parseClaimsJws(token).getBody();
+            verifiedTokens.put(digest, claims);
+        }
+        return claims;
+    }
+
+    private String digest(String token) {
+        try {
+            byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.UTF_8));
+            return Base64.getEncoder().encodeToString(hash);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static class ClaimsExpiry implements Expiry<String, Claims> {
+
+        @Override
+        public long expireAfterCreate(String key, Claims claims, long currentTime) {
+            Date expiration = claims.getExpiration();
+            if (expiration == null) {
+                return 0;
+            }
+            long remainingMillis = expiration.getTime() - System.currentTimeMillis();
+            return TimeUnit.MILLISECONDS.toNanos(Math.max(remainingMillis, 0));
+        }
+
+        @Override
+        public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+            return expireAfterCreate(key, claims, currentTime);
+        }
+
+        @Override
+        public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+            return currentDuration;
+        }
     }
 }
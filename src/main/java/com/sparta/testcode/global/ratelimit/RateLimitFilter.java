@@ -0,0 +1,130 @@
+package com.sparta.testcode.global.ratelimit;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.server.PathContainer;
+import org.springframework.security.authentication.AnonymousAuthenticationToken;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.util.pattern.PathPattern;
+import org.springframework.web.util.pattern.PathPatternParser;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Collectors;
+
+/**
+ * 설정된 경로의 요청을 사용자(JWT subject) 또는 클라이언트 IP 별로 제한한다.
+ * JwtAuthenticationFilter 뒤에 두어 인증된 요청은 사용자 기준, 로그인처럼 인증 전 요청은 IP 기준으로 센다.
+ * 제한을 넘으면 컨트롤러까지 가지 않고 429 와 Retry-After(초) 로 응답한다.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    private static final String TOO_MANY_REQUESTS_MESSAGE = "요청이 너무 많습니다. 잠시 후 다시 시도해주세요.";
+
+    private final RateLimiter rateLimiter;
+    private final List<Route> routes = new ArrayList<>();
+
+    public RateLimitFilter(RateLimitProperties properties, MeterRegistry meterRegistry) {
+        Duration idleTimeout = properties.getIdleTimeout();
+        for (RateLimitProperties.Route route : properties.getRoutes()) {
+            routes.add(new Route(route, meterRegistry));
+            if (route.getPeriod().compareTo(idleTimeout) > 0) {
+                idleTimeout = route.getPeriod();
+            }
+        }
+        this.rateLimiter = new RateLimiter(properties.getMaxKeys(), idleTimeout);
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return routes.isEmpty();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        Route route = findRoute(request);
+        if (route != null) {
+            long waitNanos = rateLimiter.tryAcquire(route.name + ":" + clientKey(request), route.rule);
+            if (waitNanos > 0) {
+                route.rejected.increment();
+                reject(response, waitNanos);
+                return;
+            }
+        }
+        filterChain.doFilter(request, response);
+    }
+
+    private Route findRoute(HttpServletRequest request) {
+        PathContainer path = null;
+        for (Route route : routes) {
+            if (!route.methods.isEmpty() && !route.methods.contains(request.getMethod())) {
+                continue;
+            }
+            if (path == null) {
+                path = PathContainer.parsePath(request.getRequestURI().substring(request.getContextPath().length()));
+            }
+            for (PathPattern pattern : route.patterns) {
+                if (pattern.matches(path)) {
+                    return route;
+                }
+            }
+        }
+        return null;
+    }
+
+    // 프록시 뒤에 있을 때는 server.forward-headers-strategy 로 remoteAddr 가 실제 클라이언트 IP 가 되도록 한다
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        if (authentication != null && authentication.isAuthenticated() && !(authentication instanceof AnonymousAuthenticationToken)) {
+            return "user:" + authentication.getName();
+        }
+        return "ip:" + request.getRemoteAddr();
+    }
+
+    private void reject(HttpServletResponse response, long waitNanos) throws IOException {
+        long retryAfterSeconds = Math.max(1, (waitNanos + TimeUnit.SECONDS.toNanos(1) - 1) / TimeUnit.SECONDS.toNanos(1));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(retryAfterSeconds));
+        response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+        response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+        response.getWriter().write(TOO_MANY_REQUESTS_MESSAGE);
+    }
+
+    private static class Route {
+        private final String name;
+        private final Set<String> methods;
+        private final List<PathPattern> patterns;
+        private final RateLimiter.Rule rule;
+        private final Counter rejected;
+
+        private Route(RateLimitProperties.Route route, MeterRegistry meterRegistry) {
+            this.name = route.getName();
+            this.methods = route.getMethods().stream()
+                    .map(method -> method.toUpperCase(Locale.ROOT))
+                    .collect(Collectors.toUnmodifiableSet());
+            this.patterns = route.getPatterns().stream()
+                    .map(PathPatternParser.defaultInstance::parse)
+                    .toList();
+            this.rule = new RateLimiter.Rule(route.getLimit(), route.getPeriod());
+            this.rejected = Counter.builder("rate.limit.rejected")
+                    .description("요청 제한으로 거절된 요청 수")
+                    .tag("route", route.getName())
+                    .register(meterRegistry);
+        }
+    }
+}
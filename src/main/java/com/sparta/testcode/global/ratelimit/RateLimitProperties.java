@@ -0,0 +1,38 @@
+package com.sparta.testcode.global.ratelimit;
+
+import lombok.Getter;
+import lombok.Setter;
+import org.springframework.boot.context.properties.ConfigurationProperties;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * 경로별 요청 제한 설정.
+ * routes 가 비어 있으면 필터는 아무 요청도 막지 않는다.
+ */
+@Getter
+@Setter
+@ConfigurationProperties(prefix = "rate-limit")
+public class RateLimitProperties {
+
+    private boolean enabled = true;
+    // 동시에 유지할 버킷(경로 + 사용자/IP) 수 상한
+    private long maxKeys = 100_000;
+    // 이 시간 동안 요청이 없는 버킷은 제거한다, 가장 긴 period 보다 짧으면 period 로 올려 쓴다
+    private Duration idleTimeout = Duration.ofMinutes(10);
+    private List<Route> routes = new ArrayList<>();
+
+    @Getter
+    @Setter
+    public static class Route {
+        private String name;
+        // 비어 있으면 모든 메서드
+        private List<String> methods = new ArrayList<>();
+        private List<String> patterns = new ArrayList<>();
+        // period 동안 허용할 요청 수, 한 번에 몰아서 쓸 수 있는 양(버스트)도 같다
+        private long limit;
+        private Duration period = Duration.ofMinutes(1);
+    }
+}
@@ -0,0 +1,74 @@
+package com.sparta.testcode.global.ratelimit;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Ticker;
+
+import java.time.Duration;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * 키마다 토큰 버킷으로 요청을 제한한다.
+ * 버킷은 남은 토큰 수 대신 다음 요청이 이론상 도착해야 할 시각(TAT) 하나만 AtomicLong 으로 두는 GCRA 방식이라
+ * 허용 여부 판단이 CAS 한 번으로 끝나고 락을 잡지 않는다.
+ * 버킷 저장소는 Caffeine 캐시이며, idle-timeout 동안 쓰이지 않은 버킷은 꽉 찬 버킷과 같으므로 제거해도 결과가 같다.
+ */
+public class RateLimiter {
+
+    private final Cache<String, AtomicLong> buckets;
+    private final Ticker ticker;
+
+    public RateLimiter(long maxKeys, Duration idleTimeout) {
+        this(maxKeys, idleTimeout, Ticker.systemTicker());
+    }
+
+    RateLimiter(long maxKeys, Duration idleTimeout, Ticker ticker) {
+        this.ticker = ticker;
+        this.buckets = Caffeine.newBuilder()
+                .maximumSize(maxKeys)
+                .expireAfterAccess(idleTimeout)
+                .ticker(ticker)
+                .build();
+    }
+
+    /**
+     * 토큰 하나를 꺼낸다.
+     *
+     * @return 허용되면 0, 거절되면 다음 토큰이 생길 때까지 기다려야 하는 시간(ns)
+     */
+    public long tryAcquire(String key, Rule rule) {
+        AtomicLong theoreticalArrival = buckets.get(key, k -> new AtomicLong(Long.MIN_VALUE));
+        long now = ticker.read();
+        while (true) {
+            long current = theoreticalArrival.get();
+            long next = Math.max(current, now) + rule.emissionIntervalNanos;
+            long allowedAt = next - rule.periodNanos;
+            if (allowedAt > now) {
+                return allowedAt - now;
+            }
+            if (theoreticalArrival.compareAndSet(current, next)) {
+                return 0;
+            }
+        }
+    }
+
+    public long size() {
+        return buckets.estimatedSize();
+    }
+
+    /**
+     * period 동안 limit 개의 요청을 허용하는 규칙. 요청 사이 간격(emission interval)을 미리 계산해 둔다.
+     */
+    public static class Rule {
+        private final long emissionIntervalNanos;
+        private final long periodNanos;
+
+        public Rule(long limit, Duration period) {
+            if (limit <= 0 || period.isNegative() || period.isZero()) {
+                throw new IllegalArgumentException("limit 과 period 는 0 보다 커야 합니다.");
+            }
+            this.periodNanos = period.toNanos();
+            this.emissionIntervalNanos = Math.max(periodNanos / limit, 1);
+        }
+    }
+}
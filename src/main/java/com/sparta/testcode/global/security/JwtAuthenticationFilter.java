@@ -2,11 +2,12 @@ package com.sparta.testcode.global.security;
 
 import com.sparta.testcode.global.jwt.JwtUtil;
 import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
@@ -16,22 +17,43 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.filter.OncePerRequestFilter;
 
 import java.io.IOException;
+import java.util.concurrent.TimeUnit;
 
 @Slf4j
-@RequiredArgsConstructor
 public class JwtAuthenticationFilter extends OncePerRequestFilter {
 
     private final JwtUtil jwtUtil;
     private final UserDetailsServiceImpl userDetailsService;
+    // 인증 처리에 걸린 시간만 잰다 (이후 필터 체인과 컨트롤러는 http.server.requests 로 집계)
+    private final Timer authenticatedTimer;
+    private final Timer anonymousTimer;
+    private final Timer rejectedTimer;
+
+    public JwtAuthenticationFilter(JwtUtil jwtUtil, UserDetailsServiceImpl userDetailsService, MeterRegistry meterRegistry) {
+        this.jwtUtil = jwtUtil;
+        this.userDetailsService = userDetailsService;
+        this.authenticatedTimer = authenticationTimer(meterRegistry, "authenticated");
+        this.anonymousTimer = authenticationTimer(meterRegistry, "anonymous");
+        this.rejectedTimer = authenticationTimer(meterRegistry, "rejected");
+    }
 
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain) throws ServletException, IOException {
+        long startedAt = System.nanoTime();
         String token = jwtUtil.getJwtFromHeader(request);
 
-        if (token != null && jwtUtil.validateToken(token)) {
-            Claims claims = jwtUtil.getUserInfoFromToken(token);
-            setAuthentication(claims.getSubject());
+        Timer timer = anonymousTimer;
+        if (token != null) {
+            timer = rejectedTimer;
+            if (jwtUtil.validateToken(token)) {
+                Claims claims = jwtUtil.getUserInfoFromToken(token);
+                if (!jwtUtil.isRevoked(claims)) {
+                    setAuthentication(claims.getSubject());
+                    timer = authenticatedTimer;
+                }
+            }
         }
+        timer.record(System.nanoTime() - startedAt, TimeUnit.NANOSECONDS);
 
         filterChain.doFilter(request, response);
     }
@@ -48,4 +70,11 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         UserDetails userDetails = userDetailsService.loadUserByUsername(username);
         return new UsernamePasswordAuthenticationToken(userDetails, null, userDetails.getAuthorities());
     }
+
+    private static Timer authenticationTimer(MeterRegistry meterRegistry, String outcome) {
+        return Timer.builder("auth.jwt.filter")
+                .description("JWT 인증 필터 처리 시간")
+                .tag("outcome", outcome)
+                .register(meterRegistry);
+    }
 }
@@ -6,38 +6,43 @@ import org.springframework.security.core.GrantedAuthority;
 import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
 
-import java.util.ArrayList;
 import java.util.Collection;
+import java.util.List;
 
+/**
+ * 인증 주체 스냅샷. 캐시되어 여러 요청 스레드가 함께 쓰므로 영속 엔티티 대신 필요한 값만 복사해 둔다.
+ */
 public class UserDetailsImpl implements UserDetails {
 
-    private final User user;
     private final String username;
+    private final String password;
+    private final UserRoleEnum role;
+    // 요청마다 새로 만들지 않도록 생성 시점에 한 번만 계산한다
+    private final List<GrantedAuthority> authorities;
 
-    public UserDetailsImpl(User user, String username) {
-        this.user = user;
+    public UserDetailsImpl(String username, String password, UserRoleEnum role) {
         this.username = username;
+        this.password = password;
+        this.role = role;
+        this.authorities = List.of(new SimpleGrantedAuthority(role.getAuthority()));
     }
 
-    public User getUser() {
-        return user;
+    public static UserDetailsImpl from(User user) {
+        return new UserDetailsImpl(user.getUsername(), user.getPassword(), user.getRole());
+    }
+
+    public UserRoleEnum getRole() {
+        return role;
     }
 
     @Override
     public Collection<? extends GrantedAuthority> getAuthorities() {
-        UserRoleEnum role = user.getRole();
-        String authority = role.getAuthority();
-
-        SimpleGrantedAuthority simpleGrantedAuthority = new SimpleGrantedAuthority(authority);
-        Collection<GrantedAuthority> authorities = new ArrayList<>();
-        authorities.add(simpleGrantedAuthority);
-
         return authorities;
     }
 
     @Override
     public String getPassword() {
-        return user.getPassword();
+        return password;
     }
 
     @Override
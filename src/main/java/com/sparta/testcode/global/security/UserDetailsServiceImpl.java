@@ -1,24 +1,66 @@
 package com.sparta.testcode.global.security;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
 import com.sparta.testcode.domain.user.entity.User;
+import com.sparta.testcode.domain.user.event.UserChangedEvent;
 import com.sparta.testcode.domain.user.repository.UserRepository;
-import lombok.RequiredArgsConstructor;
+import com.sparta.testcode.global.util.TransactionUtils;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.event.EventListener;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
 
+import java.time.Duration;
+
 @Service
-@RequiredArgsConstructor
 public class UserDetailsServiceImpl implements UserDetailsService {
 
     private final UserRepository userRepository;
+    // JWT 필터가 요청마다 users 테이블을 조회하지 않도록 인증 주체를 TTL 동안 캐시한다
+    private final Cache<String, UserDetailsImpl> principalCache;
+
+    public UserDetailsServiceImpl(UserRepository userRepository,
+                                  MeterRegistry meterRegistry,
+                                  @Value("${cache.principal.maximum-size:10000}") long maximumSize,
+                                  @Value("${cache.principal.ttl:5m}") Duration ttl) {
+        this.userRepository = userRepository;
+        this.principalCache = Caffeine.newBuilder()
+                .maximumSize(maximumSize)
+                .expireAfterWrite(ttl)
+                .recordStats()
+                .build();
+        // cache.gets{cache=principal, result=hit|miss}, cache.evictions 등으로 적중률을 확인한다
+        CaffeineCacheMetrics.monitor(meterRegistry, principalCache, "principal");
+    }
 
     @Override
     public UserDetails loadUserByUsername(String username) throws UsernameNotFoundException {
+        return principalCache.get(username, this::loadUser);
+    }
+
+    /**
+     * 권한이나 비밀번호가 바뀐 사용자의 캐시를 커밋 이후에 비운다.
+     * 변경 트랜잭션 안에서 호출해야 롤백 시 이전 정보가 그대로 유지된다.
+     */
+    public void evictUser(String username) {
+        TransactionUtils.runAfterCommit(() -> principalCache.invalidate(username));
+    }
+
+    // User 변경/삭제 시 변경 트랜잭션 안에서 발행되므로 커밋 이후 비우기가 그대로 적용된다
+    @EventListener
+    public void onUserChanged(UserChangedEvent event) {
+        evictUser(event.username());
+    }
+
+    private UserDetailsImpl loadUser(String username) {
         User user = userRepository.findByUsername(username)
                 .orElseThrow(() -> new UsernameNotFoundException("Not Found " + username));
 
-        return new UserDetailsImpl(user, user.getUsername());
+        return UserDetailsImpl.from(user);
     }
 }
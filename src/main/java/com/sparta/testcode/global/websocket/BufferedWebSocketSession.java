@@ -0,0 +1,202 @@
+package com.sparta.testcode.global.websocket;
+
+import com.sparta.testcode.global.config.ChatTransportProperties.SlowConsumerPolicy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.web.socket.BinaryMessage;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketSessionDecorator;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * 세션마다 전송 대기열을 두는 데코레이터.
+ * sendMessage 는 대기열에 넣고 바로 돌아오며, 실제 쓰기는 SlowConsumerGuard 의 전송 스레드가 한 번에 한 메시지씩 한다.
+ * 대기열이 max-pending-messages 에 닿으면 정책에 따라 오래된 메시지나 입장(ENTER) 알림을 버리거나 세션을 닫고,
+ * 어떤 정책이든 disconnect-pending-messages 에 닿으면 세션을 닫는다.
+ */
+@Slf4j
+class BufferedWebSocketSession extends WebSocketSessionDecorator {
+
+    private static final String NON_CRITICAL_HEADER = "\n" + SlowConsumerGuard.CHAT_TYPE_HEADER + ":ENTER\n";
+    private static final String HEADER_END = "\n\n";
+    // 바이너리 프레임은 본문 전체를 복사하지 않고 헤더가 들어 있을 앞부분만 본다
+    private static final int MAX_BINARY_HEADER_BYTES = 4096;
+
+    private final SlowConsumerGuard guard;
+    private final Deque<Pending> queue = new ArrayDeque<>();
+    private final AtomicBoolean draining = new AtomicBoolean();
+    private final AtomicBoolean closing = new AtomicBoolean();
+    // 진행 중인 쓰기의 시작 시각(nanoTime), 쓰고 있지 않으면 0
+    private volatile long sendStartedAt;
+
+    BufferedWebSocketSession(WebSocketSession delegate, SlowConsumerGuard guard) {
+        super(delegate);
+        this.guard = guard;
+    }
+
+    @Override
+    public void sendMessage(WebSocketMessage<?> message) {
+        if (closing.get()) {
+            return;
+        }
+        if (isSendStalled()) {
+            closeSlowConsumer();
+            return;
+        }
+        boolean nonCritical = isNonCritical(message);
+        boolean disconnect = false;
+        synchronized (queue) {
+            int pending = queue.size();
+            SlowConsumerPolicy policy = guard.getPolicy();
+            if (pending >= guard.getDisconnectPendingMessages()
+                    || (pending >= guard.getMaxPendingMessages() && policy == SlowConsumerPolicy.DISCONNECT)) {
+                // 닫는 동안 새 메시지를 받지 않도록 락 안에서 표시만 하고 닫기는 락 밖에서 한다
+                disconnect = closing.compareAndSet(false, true);
+            } else if (pending >= guard.getMaxPendingMessages() && policy == SlowConsumerPolicy.DROP_OLDEST) {
+                queue.pollFirst();
+                guard.onDroppedOldest();
+            } else if (pending >= guard.getMaxPendingMessages() && policy == SlowConsumerPolicy.DROP_NON_CRITICAL) {
+                if (nonCritical || removeFirstNonCritical()) {
+                    guard.onDroppedNonCritical();
+                }
+                if (nonCritical) {
+                    return;
+                }
+            }
+            if (!closing.get()) {
+                queue.addLast(new Pending(message, nonCritical));
+            }
+        }
+        if (disconnect) {
+            disconnect();
+            return;
+        }
+        scheduleDrain();
+    }
+
+    int pendingMessages() {
+        synchronized (queue) {
+            return queue.size();
+        }
+    }
+
+    boolean isSendStalled() {
+        long startedAt = sendStartedAt;
+        return startedAt != 0 && System.nanoTime() - startedAt > guard.getSendTimeLimit().toNanos();
+    }
+
+    void closeSlowConsumer() {
+        if (closing.compareAndSet(false, true)) {
+            disconnect();
+        }
+    }
+
+    void discardPending() {
+        closing.set(true);
+        synchronized (queue) {
+            queue.clear();
+        }
+    }
+
+    private void disconnect() {
+        int pending = pendingMessages();
+        discardPending();
+        guard.onDisconnect();
+        log.warn("느린 구독자 세션을 닫습니다. sessionId={}, pending={}", getId(), pending);
+        // close frame 쓰기도 막힌 쓰기 뒤에서 기다릴 수 있으므로 outbound 채널이나 sweep 스레드가 아닌 전송 스레드에서 닫는다
+        try {
+            guard.getSender().execute(this::closeDelegate);
+        } catch (RejectedExecutionException e) {
+            closeDelegate();
+        }
+    }
+
+    private void closeDelegate() {
+        try {
+            getDelegate().close(CloseStatus.SESSION_NOT_RELIABLE);
+        } catch (IOException e) {
+            log.debug("세션 종료 실패. sessionId={}", getId(), e);
+        }
+    }
+
+    private void scheduleDrain() {
+        if (!draining.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            guard.getSender().execute(this::drain);
+        } catch (RejectedExecutionException e) {
+            // 종료 중이라 전송 스레드가 없으면 남은 메시지는 보내지 않는다
+            draining.set(false);
+            discardPending();
+        }
+    }
+
+    private void drain() {
+        while (true) {
+            Pending next;
+            synchronized (queue) {
+                next = queue.pollFirst();
+                if (next == null) {
+                    // 락 안에서 풀어야 sendMessage 가 넣은 메시지를 놓치지 않는다
+                    draining.set(false);
+                    return;
+                }
+            }
+            if (closing.get()) {
+                continue;
+            }
+            sendStartedAt = System.nanoTime();
+            try {
+                getDelegate().sendMessage(next.message());
+            } catch (IOException | RuntimeException e) {
+                log.debug("메시지 전송 실패. sessionId={}", getId(), e);
+                discardPending();
+            } finally {
+                sendStartedAt = 0;
+            }
+        }
+    }
+
+    private boolean removeFirstNonCritical() {
+        Iterator<Pending> iterator = queue.iterator();
+        while (iterator.hasNext()) {
+            if (iterator.next().nonCritical()) {
+                iterator.remove();
+                return true;
+            }
+        }
+        return false;
+    }
+
+    // 직렬화된 STOMP 프레임의 헤더 부분에서 chat-type 헤더를 찾는다
+    private static boolean isNonCritical(WebSocketMessage<?> message) {
+        String frame;
+        if (message instanceof TextMessage text) {
+            frame = text.getPayload();
+        } else if (message instanceof BinaryMessage binary) {
+            ByteBuffer payload = binary.getPayload().duplicate();
+            byte[] bytes = new byte[Math.min(payload.remaining(), MAX_BINARY_HEADER_BYTES)];
+            payload.get(bytes);
+            frame = new String(bytes, StandardCharsets.ISO_8859_1);
+        } else {
+            return false;
+        }
+        int headerEnd = frame.indexOf(HEADER_END);
+        String headers = headerEnd < 0 ? frame : frame.substring(0, headerEnd + 1);
+        return headers.contains(NON_CRITICAL_HEADER);
+    }
+
+    private record Pending(WebSocketMessage<?> message, boolean nonCritical) {
+    }
+}
@@ -0,0 +1,166 @@
+package com.sparta.testcode.global.websocket;
+
+import com.sparta.testcode.global.config.ChatTransportProperties;
+import com.sparta.testcode.global.config.ChatTransportProperties.SlowConsumerPolicy;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.springframework.beans.factory.DisposableBean;
+import org.springframework.boot.thread.Threading;
+import org.springframework.core.env.Environment;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskExecutor;
+import org.springframework.scheduling.concurrent.ThreadPoolTaskScheduler;
+import org.springframework.stereotype.Component;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketSession;
+import org.springframework.web.socket.handler.WebSocketHandlerDecorator;
+
+import java.time.Duration;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.Executor;
+
+/**
+ * 느린 구독자 처리.
+ * 연결마다 세션을 BufferedWebSocketSession 으로 감싸 세션마다의 대기열에서 정책을 적용하고, 실제 소켓 쓰기는 전송 스레드에서 한다.
+ * 스프링의 ConcurrentWebSocketSessionDecorator 는 감싼 세션의 sendMessage 를 부르므로 clientOutboundChannel 스레드는
+ * 대기열에 넣고 바로 돌아오고, 느린 클라이언트 하나가 채널 스레드를 붙잡지 않는다.
+ * 쓰기가 send-time-limit 를 넘겨 멈춘 세션은 새 메시지가 오지 않아도 주기적으로 찾아 닫는다.
+ */
+@Component
+public class SlowConsumerGuard implements DisposableBean {
+
+    // 이 native 헤더 값이 ENTER 인 메시지는 DROP_NON_CRITICAL 정책에서 버릴 수 있다
+    public static final String CHAT_TYPE_HEADER = "chat-type";
+    private static final Duration MAX_SWEEP_INTERVAL = Duration.ofSeconds(1);
+
+    private final SlowConsumerPolicy policy;
+    private final int maxPendingMessages;
+    private final int disconnectPendingMessages;
+    private final Duration sendTimeLimit;
+    private final ThreadPoolTaskExecutor sender;
+    private final ThreadPoolTaskScheduler sweeper;
+    private final Map<String, BufferedWebSocketSession> sessions = new ConcurrentHashMap<>();
+    private final Counter droppedOldest;
+    private final Counter droppedNonCritical;
+    private final Counter disconnects;
+
+    public SlowConsumerGuard(ChatTransportProperties properties, MeterRegistry meterRegistry, Environment environment) {
+        this.policy = properties.getPolicy();
+        this.maxPendingMessages = properties.getMaxPendingMessages();
+        this.disconnectPendingMessages = Math.max(properties.getDisconnectPendingMessages(), maxPendingMessages);
+        this.sendTimeLimit = properties.getSendTimeLimit();
+
+        // 클라이언트가 읽지 않으면 쓰기는 컨테이너의 blocking-write 시간 제한까지 스레드를 붙잡는다.
+        // 대기열 없이(queue-capacity 0) 쓰는 중인 세션마다 스레드를 주어 막힌 세션 뒤에 다른 세션의 전송이 줄 서지 않게 하고,
+        // sender-pool-size 만큼만 유휴 스레드로 남긴다. 막힌 세션은 send-time-limit 가 지나면 닫힌다.
+        int idleThreads = properties.getSenderPoolSize() > 0
+                ? properties.getSenderPoolSize()
+                : Runtime.getRuntime().availableProcessors() * 2;
+        this.sender = new ThreadPoolTaskExecutor();
+        sender.setVirtualThreads(Threading.VIRTUAL.isActive(environment));
+        sender.setCorePoolSize(idleThreads);
+        sender.setMaxPoolSize(Integer.MAX_VALUE);
+        sender.setQueueCapacity(0);
+        sender.setThreadNamePrefix("ws-send-");
+        sender.initialize();
+
+        this.sweeper = new ThreadPoolTaskScheduler();
+        sweeper.setPoolSize(1);
+        sweeper.setThreadNamePrefix("ws-send-sweep-");
+        sweeper.initialize();
+        Duration sweepInterval = sendTimeLimit.dividedBy(2);
+        sweeper.scheduleWithFixedDelay(this::closeStalledSessions,
+                sweepInterval.compareTo(MAX_SWEEP_INTERVAL) > 0 ? MAX_SWEEP_INTERVAL : sweepInterval);
+
+        this.droppedOldest = droppedCounter(meterRegistry, "drop_oldest");
+        this.droppedNonCritical = droppedCounter(meterRegistry, "drop_non_critical");
+        this.disconnects = Counter.builder("chat.websocket.slow.disconnects")
+                .description("전송 대기 한도나 전송 시간 한도를 넘어 닫은 세션 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.outbound.pending", this, SlowConsumerGuard::pendingMessages)
+                .description("전송 대기 중인 메시지 수")
+                .register(meterRegistry);
+        Gauge.builder("chat.websocket.slow.sessions", sessions, s -> s.values().stream().filter(session -> session.pendingMessages() >= maxPendingMessages).count())
+                .description("전송 대기 한도에 닿은 세션 수")
+                .register(meterRegistry);
+    }
+
+    public WebSocketHandler decorate(WebSocketHandler handler) {
+        return new WebSocketHandlerDecorator(handler) {
+            @Override
+            public void afterConnectionEstablished(WebSocketSession session) throws Exception {
+                BufferedWebSocketSession buffered = new BufferedWebSocketSession(session, SlowConsumerGuard.this);
+                sessions.put(session.getId(), buffered);
+                super.afterConnectionEstablished(buffered);
+            }
+
+            @Override
+            public void afterConnectionClosed(WebSocketSession session, CloseStatus closeStatus) throws Exception {
+                BufferedWebSocketSession buffered = sessions.remove(session.getId());
+                if (buffered != null) {
+                    buffered.discardPending();
+                }
+                super.afterConnectionClosed(session, closeStatus);
+            }
+        };
+    }
+
+    long pendingMessages() {
+        return sessions.values().stream().mapToLong(BufferedWebSocketSession::pendingMessages).sum();
+    }
+
+    void closeStalledSessions() {
+        for (BufferedWebSocketSession session : sessions.values()) {
+            if (session.isSendStalled()) {
+                session.closeSlowConsumer();
+            }
+        }
+    }
+
+    SlowConsumerPolicy getPolicy() {
+        return policy;
+    }
+
+    int getMaxPendingMessages() {
+        return maxPendingMessages;
+    }
+
+    int getDisconnectPendingMessages() {
+        return disconnectPendingMessages;
+    }
+
+    Duration getSendTimeLimit() {
+        return sendTimeLimit;
+    }
+
+    Executor getSender() {
+        return sender;
+    }
+
+    void onDroppedOldest() {
+        droppedOldest.increment();
+    }
+
+    void onDroppedNonCritical() {
+        droppedNonCritical.increment();
+    }
+
+    void onDisconnect() {
+        disconnects.increment();
+    }
+
+    @Override
+    public void destroy() {
+        sweeper.shutdown();
+        sender.shutdown();
+    }
+
+    private static Counter droppedCounter(MeterRegistry meterRegistry, String policy) {
+        return Counter.builder("chat.websocket.outbound.dropped")
+                .description("느린 구독자 정책으로 버린 메시지 수")
+                .tag("policy", policy)
+                .register(meterRegistry);
+    }
+}
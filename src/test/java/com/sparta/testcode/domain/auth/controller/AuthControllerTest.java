@@ -2,6 +2,7 @@ package com.sparta.testcode.domain.auth.controller;
 
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.testcode.domain.auth.dto.LoginRequestDto;
+import com.sparta.testcode.domain.auth.dto.TokenDto;
 import com.sparta.testcode.domain.auth.service.AuthService;
 import com.sparta.testcode.global.config.SecurityConfig;
 import com.sparta.testcode.global.jwt.JwtUtil;
@@ -11,11 +12,14 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
@@ -47,7 +51,7 @@ class AuthControllerTest {
         LoginRequestDto requestDto = new LoginRequestDto("테스트유저", "비밀번호123");
 
         String token = "Bearer token";
-        given(authService.login(any(LoginRequestDto.class))).willReturn(token);
+        given(authService.login(any(LoginRequestDto.class))).willReturn(new TokenDto(token, "refresh-token"));
 
         // when & then
         mockMvc.perform(post("/auth/login")
@@ -55,6 +59,56 @@ class AuthControllerTest {
                         .content(objectMapper.writeValueAsString(requestDto)))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(header().string(JwtUtil.AUTHORIZATION_HEADER, token));
+                .andExpect(header().string(JwtUtil.AUTHORIZATION_HEADER, token))
+                .andExpect(header().string(JwtUtil.REFRESH_TOKEN_HEADER, "refresh-token"));
+    }
+
+    @Test
+    void refresh() throws Exception {
+        // given
+        given(authService.refresh("refresh-token")).willReturn(new TokenDto("Bearer new-token", "new-refresh-token"));
+
+        // when & then
+        mockMvc.perform(post("/auth/refresh")
+                        .header(JwtUtil.REFRESH_TOKEN_HEADER, "refresh-token"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(header().string(JwtUtil.AUTHORIZATION_HEADER, "Bearer new-token"))
+                .andExpect(header().string(JwtUtil.REFRESH_TOKEN_HEADER, "new-refresh-token"));
+    }
+
+    @Test
+    void refresh_MissingHeader() throws Exception {
+        // when & then
+        mockMvc.perform(post("/auth/refresh"))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
+    @Test
+    void logout() throws Exception {
+        // when & then
+        mockMvc.perform(post("/auth/logout")
+                        .header(JwtUtil.REFRESH_TOKEN_HEADER, "refresh-token"))
+                .andDo(print())
+                .andExpect(status().isNoContent());
+
+        verify(authService).logout("refresh-token");
+    }
+
+    @Test
+    void login_Overloaded() throws Exception {
+        // given
+        LoginRequestDto requestDto = new LoginRequestDto("테스트유저", "비밀번호123");
+
+        given(authService.login(any(LoginRequestDto.class))).willThrow(new TaskRejectedException("로그인 요청이 많습니다."));
+
+        // when & then
+        mockMvc.perform(post("/auth/login")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andDo(print())
+                .andExpect(status().isServiceUnavailable())
+                .andExpect(header().string(HttpHeaders.RETRY_AFTER, "1"));
     }
 }
@@ -10,6 +10,9 @@ import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.client.TestRestTemplate;
+import org.springframework.http.HttpEntity;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpMethod;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -52,6 +55,26 @@ class AuthIntegrationTest {
         assertThat(response.getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER)).startsWith("Bearer ");
     }
 
+    @Test
+    void refresh_RotatesAndDetectsReuse() {
+        // given
+        ResponseEntity<Void> login = restTemplate.postForEntity("/auth/login", new LoginRequestDto("테스트유저", "비밀번호123"), Void.class);
+        String refreshToken = login.getHeaders().getFirst(JwtUtil.REFRESH_TOKEN_HEADER);
+
+        // when
+        ResponseEntity<Void> rotated = refresh(refreshToken);
+        String rotatedToken = rotated.getHeaders().getFirst(JwtUtil.REFRESH_TOKEN_HEADER);
+        ResponseEntity<Void> reused = refresh(refreshToken);
+        ResponseEntity<Void> afterReuse = refresh(rotatedToken);
+
+        // then
+        assertThat(rotated.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(rotated.getHeaders().getFirst(JwtUtil.AUTHORIZATION_HEADER)).startsWith("Bearer ");
+        assertThat(rotatedToken).isNotEqualTo(refreshToken);
+        assertThat(reused.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+        assertThat(afterReuse.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
+    }
+
     @Test
     void login_Failure_UserNotFound() {
         // given
@@ -75,4 +98,10 @@ class AuthIntegrationTest {
         // then
         assertThat(response.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST);
     }
+
+    private ResponseEntity<Void> refresh(String refreshToken) {
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(JwtUtil.REFRESH_TOKEN_HEADER, refreshToken);
+        return restTemplate.exchange("/auth/refresh", HttpMethod.POST, new HttpEntity<>(headers), Void.class);
+    }
 }
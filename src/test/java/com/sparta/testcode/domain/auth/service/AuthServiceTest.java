@@ -1,22 +1,23 @@
 package com.sparta.testcode.domain.auth.service;
 
 import com.sparta.testcode.domain.auth.dto.LoginRequestDto;
+import com.sparta.testcode.domain.auth.dto.TokenDto;
 import com.sparta.testcode.domain.user.entity.User;
 import com.sparta.testcode.domain.user.entity.UserRoleEnum;
 import com.sparta.testcode.domain.user.repository.UserRepository;
-import com.sparta.testcode.global.jwt.JwtUtil;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.core.task.TaskRejectedException;
 
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 @ExtendWith(MockitoExtension.class)
 class AuthServiceTest {
@@ -25,10 +26,10 @@ class AuthServiceTest {
     private UserRepository userRepository;
 
     @Mock
-    private PasswordEncoder passwordEncoder;
+    private PasswordVerifier passwordVerifier;
 
     @Mock
-    private JwtUtil jwtUtil;
+    private RefreshTokenService refreshTokenService;
 
     @InjectMocks
     private AuthService authService;
@@ -40,14 +41,29 @@ class AuthServiceTest {
 
         User user = User.create("테스트유저", "암호화된비밀번호", UserRoleEnum.USER);
         given(userRepository.findByUsername("테스트유저")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("비밀번호123", "암호화된비밀번호")).willReturn(true);
-        given(jwtUtil.createToken("테스트유저")).willReturn("token");
+        given(passwordVerifier.matches("비밀번호123", "암호화된비밀번호")).willReturn(true);
+        TokenDto tokenDto = new TokenDto("token", "refresh-token");
+        given(refreshTokenService.issue("테스트유저")).willReturn(tokenDto);
 
         // when
-        String token = authService.login(requestDto);
+        TokenDto token = authService.login(requestDto);
 
         // then
-        assertThat(token).isEqualTo("token");
+        assertThat(token).isSameAs(tokenDto);
+    }
+
+    @Test
+    void refresh() {
+        // given
+        TokenDto tokenDto = new TokenDto("new-token", "new-refresh-token");
+        given(refreshTokenService.rotate("refresh-token")).willReturn(tokenDto);
+
+        // when
+        TokenDto token = authService.refresh("refresh-token");
+
+        // then
+        assertThat(token).isSameAs(tokenDto);
+        verifyNoInteractions(passwordVerifier);
     }
 
     @Test
@@ -70,11 +86,26 @@ class AuthServiceTest {
 
         User user = User.create("테스트유저", "암호화된비밀번호", UserRoleEnum.USER);
         given(userRepository.findByUsername("테스트유저")).willReturn(Optional.of(user));
-        given(passwordEncoder.matches("비밀번호123", "암호화된비밀번호")).willReturn(false);
+        given(passwordVerifier.matches("비밀번호123", "암호화된비밀번호")).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> authService.login(requestDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("비밀번호 오류");
     }
+
+    @Test
+    void login_Overloaded() {
+        // given
+        LoginRequestDto requestDto = new LoginRequestDto("테스트유저", "비밀번호123");
+
+        User user = User.create("테스트유저", "암호화된비밀번호", UserRoleEnum.USER);
+        given(userRepository.findByUsername("테스트유저")).willReturn(Optional.of(user));
+        given(passwordVerifier.matches("비밀번호123", "암호화된비밀번호"))
+                .willThrow(new TaskRejectedException("로그인 요청이 많습니다."));
+
+        // when & then
+        assertThatThrownBy(() -> authService.login(requestDto))
+                .isInstanceOf(TaskRejectedException.class);
+    }
 }
@@ -0,0 +1,103 @@
+package com.sparta.testcode.domain.auth.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.task.TaskRejectedException;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.Duration;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+
+/**
+ * 스레드 하나, 대기열 하나짜리 풀을 검증이 끝나지 않는 인코더로 채워 거절과 시간 초과를 확인한다.
+ */
+class PasswordVerifierTest {
+
+    private final PasswordEncoder passwordEncoder = mock(PasswordEncoder.class);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final ExecutorService callers = Executors.newFixedThreadPool(2);
+    private SimpleMeterRegistry meterRegistry;
+    private PasswordVerifier passwordVerifier;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        given(passwordEncoder.matches(anyString(), anyString()))
+                .willAnswer(invocation -> release.await(5, TimeUnit.SECONDS));
+    }
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        callers.shutdownNow();
+        passwordVerifier.destroy();
+    }
+
+    @Test
+    void matches() {
+        // given
+        passwordVerifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        release.countDown();
+
+        // when
+        boolean matched = passwordVerifier.matches("password", "encoded");
+
+        // then
+        assertThat(matched).isTrue();
+        assertThat(meterRegistry.get("auth.login.verification").timer().count()).isEqualTo(1);
+    }
+
+    @Test
+    void matches_RejectedWhenQueueIsFull() throws Exception {
+        // given
+        passwordVerifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofSeconds(5));
+        CompletableFuture<Boolean> running = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("password", "encoded"), callers);
+        awaitGauge("auth.login.active", 1);
+        CompletableFuture<Boolean> queued = CompletableFuture.supplyAsync(() -> passwordVerifier.matches("password", "encoded"), callers);
+        awaitGauge("auth.login.queue.size", 1);
+
+        // when & then
+        assertThatThrownBy(() -> passwordVerifier.matches("password", "encoded"))
+                .isInstanceOf(TaskRejectedException.class);
+        assertThat(meterRegistry.get("auth.login.rejected").counter().count()).isEqualTo(1.0);
+
+        // 자리가 비면 기다리던 요청은 정상 처리된다
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isTrue();
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isTrue();
+    }
+
+    @Test
+    void matches_RejectedOnTimeout() {
+        // given
+        passwordVerifier = new PasswordVerifier(passwordEncoder, meterRegistry, 1, 1, Duration.ofMillis(100));
+
+        // when & then
+        assertThatThrownBy(() -> passwordVerifier.matches("password", "encoded"))
+                .isInstanceOf(TaskRejectedException.class)
+                .hasMessage("로그인 검증 대기 시간이 초과되었습니다.");
+        assertThat(meterRegistry.get("auth.login.rejected").counter().count()).isEqualTo(1.0);
+    }
+
+    private void awaitGauge(String name, double expected) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        while (meterRegistry.get(name).gauge().value() < expected) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError(name + " 가 " + expected + " 에 도달하지 않았습니다.");
+            }
+            Thread.sleep(10);
+        }
+    }
+}
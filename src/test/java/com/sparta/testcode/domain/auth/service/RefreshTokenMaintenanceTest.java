@@ -0,0 +1,77 @@
+package com.sparta.testcode.domain.auth.service;
+
+import com.sparta.testcode.global.jwt.JwtUtil;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenMaintenanceTest {
+
+    @Mock
+    private RefreshTokenService refreshTokenService;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private RefreshTokenMaintenance refreshTokenMaintenance;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenMaintenance = new RefreshTokenMaintenance(refreshTokenService, jwtUtil, Duration.ofHours(1), Duration.ofHours(1));
+    }
+
+    @AfterEach
+    void tearDown() {
+        refreshTokenMaintenance.destroy();
+    }
+
+    @Test
+    void syncRevokedSessions_OverlapsPreviousPoll() {
+        // given
+        given(jwtUtil.getTokenTime()).willReturn(Duration.ofMinutes(60));
+        LocalDateTime startedAt = LocalDateTime.now();
+        refreshTokenMaintenance.start();
+
+        // when
+        refreshTokenMaintenance.syncRevokedSessions();
+
+        // then
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(refreshTokenService, times(2)).syncRevokedSessions(captor.capture());
+        assertThat(captor.getAllValues().get(0)).isBefore(startedAt.minusMinutes(59));
+        assertThat(captor.getAllValues().get(1))
+                .isAfterOrEqualTo(startedAt.minus(RefreshTokenMaintenance.POLL_OVERLAP))
+                .isBefore(LocalDateTime.now());
+    }
+
+    @Test
+    void syncRevokedSessions_RetriesFromSameSinceAfterFailure() {
+        // given
+        given(jwtUtil.getTokenTime()).willReturn(Duration.ofMinutes(60));
+        refreshTokenMaintenance.start();
+        given(refreshTokenService.syncRevokedSessions(any())).willThrow(new IllegalStateException("db down")).willReturn(0);
+
+        // when
+        refreshTokenMaintenance.syncRevokedSessions();
+        refreshTokenMaintenance.syncRevokedSessions();
+
+        // then
+        ArgumentCaptor<LocalDateTime> captor = ArgumentCaptor.forClass(LocalDateTime.class);
+        verify(refreshTokenService, times(3)).syncRevokedSessions(captor.capture());
+        assertThat(captor.getAllValues().get(2)).isEqualTo(captor.getAllValues().get(1));
+    }
+}
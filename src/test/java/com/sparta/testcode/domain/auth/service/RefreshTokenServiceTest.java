@@ -0,0 +1,130 @@
+package com.sparta.testcode.domain.auth.service;
+
+import com.sparta.testcode.domain.auth.dto.TokenDto;
+import com.sparta.testcode.domain.auth.entity.RefreshToken;
+import com.sparta.testcode.domain.auth.repository.RefreshTokenRepository;
+import com.sparta.testcode.global.jwt.JwtUtil;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class RefreshTokenServiceTest {
+
+    @Mock
+    private RefreshTokenRepository refreshTokenRepository;
+
+    @Mock
+    private JwtUtil jwtUtil;
+
+    private RefreshTokenService refreshTokenService;
+
+    @BeforeEach
+    void setUp() {
+        refreshTokenService = new RefreshTokenService(refreshTokenRepository, jwtUtil, Duration.ofDays(14));
+    }
+
+    @Test
+    void issue_StoresOnlyHash() {
+        // given
+        given(jwtUtil.createToken(eq("테스트유저"), anyString())).willReturn("Bearer token");
+
+        // when
+        TokenDto token = refreshTokenService.issue("테스트유저");
+
+        // then
+        ArgumentCaptor<RefreshToken> captor = ArgumentCaptor.forClass(RefreshToken.class);
+        verify(refreshTokenRepository).save(captor.capture());
+        assertThat(token.getAccessToken()).isEqualTo("Bearer token");
+        assertThat(captor.getValue().getTokenHash()).isNotEqualTo(token.getRefreshToken());
+        assertThat(captor.getValue().getUsername()).isEqualTo("테스트유저");
+    }
+
+    @Test
+    void rotate_KeepsFamily() {
+        // given
+        RefreshToken stored = new RefreshToken("hash", "family-1", "테스트유저", LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(stored));
+        given(refreshTokenRepository.markUsed(any(), any())).willReturn(1);
+        given(jwtUtil.createToken("테스트유저", "family-1")).willReturn("Bearer token");
+
+        // when
+        TokenDto token = refreshTokenService.rotate("refresh-token");
+
+        // then
+        assertThat(token.getAccessToken()).isEqualTo("Bearer token");
+        assertThat(token.getRefreshToken()).isNotEqualTo("refresh-token");
+        verify(refreshTokenRepository, never()).revokeFamily(anyString(), any());
+    }
+
+    @Test
+    void rotate_ReuseRevokesFamily() {
+        // given
+        RefreshToken stored = new RefreshToken("hash", "family-1", "테스트유저", LocalDateTime.now().plusDays(1));
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.of(stored));
+        given(refreshTokenRepository.markUsed(any(), any())).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate("refresh-token"))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("유효하지 않은 리프레시 토큰입니다.");
+        verify(refreshTokenRepository).revokeFamily(eq("family-1"), any());
+        verify(jwtUtil).revokeSession("family-1");
+    }
+
+    @Test
+    void rotate_UnknownToken() {
+        // given
+        given(refreshTokenRepository.findByTokenHash(anyString())).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> refreshTokenService.rotate("unknown"))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void syncRevokedSessions() {
+        // given
+        LocalDateTime since = LocalDateTime.now().minusMinutes(1);
+        given(refreshTokenRepository.findFamilyIdsRevokedSince(since)).willReturn(List.of("family-1", "family-2"));
+
+        // when
+        int synced = refreshTokenService.syncRevokedSessions(since);
+
+        // then
+        assertThat(synced).isEqualTo(2);
+        verify(jwtUtil).revokeSession("family-1");
+        verify(jwtUtil).revokeSession("family-2");
+    }
+
+    @Test
+    void purgeExpired_KeepsRevocationsForAccessTokenLifetime() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        given(jwtUtil.getTokenTime()).willReturn(Duration.ofMinutes(60));
+        given(refreshTokenRepository.deleteExpiredOrRevokedBefore(now, now.minusMinutes(60))).willReturn(3);
+
+        // when
+        int deleted = refreshTokenService.purgeExpired(now);
+
+        // then
+        assertThat(deleted).isEqualTo(3);
+    }
+}
@@ -3,8 +3,16 @@ package com.sparta.testcode.domain.board.controller;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.sparta.testcode.domain.board.dto.BoardRequestDto;
 import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSummaryDto;
+import com.sparta.testcode.domain.board.dto.BoardSummarySliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardVersion;
 import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
+import com.sparta.testcode.domain.board.service.BoardBulkService;
+import com.sparta.testcode.domain.board.service.BoardExportService;
 import com.sparta.testcode.domain.board.service.BoardService;
+import com.sparta.testcode.domain.board.service.BoardUpdateFacade;
 import com.sparta.testcode.global.config.SecurityConfig;
 import com.sparta.testcode.global.jwt.JwtUtil;
 import com.sparta.testcode.global.security.UserDetailsServiceImpl;
@@ -16,19 +24,28 @@ import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.web.servlet.WebMvcTest;
 import org.springframework.boot.test.mock.mockito.MockBean;
 import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.MediaType;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
 import org.springframework.test.web.servlet.MockMvc;
 
+import java.time.LocalDateTime;
 import java.util.Collections;
 import java.util.List;
 
 import static org.hamcrest.Matchers.hasSize;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.*;
 import static org.springframework.test.web.servlet.result.MockMvcResultHandlers.print;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
@@ -45,6 +62,15 @@ class BoardControllerTest {
     @MockBean
     private BoardService boardService;
 
+    @MockBean
+    private BoardExportService boardExportService;
+
+    @MockBean
+    private BoardBulkService boardBulkService;
+
+    @MockBean
+    private BoardUpdateFacade boardUpdateFacade;
+
     @MockBean
     private JwtUtil jwtUtil;
 
@@ -98,6 +124,8 @@ class BoardControllerTest {
         // given
         Long boardId = 1L;
         Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", boardId);
+        ReflectionTestUtils.setField(board, "version", 2L);
         BoardResponseDto responseDto = new BoardResponseDto(board);
 
         given(boardService.getBoard(boardId)).willReturn(responseDto);
@@ -106,7 +134,26 @@ class BoardControllerTest {
         mockMvc.perform(get("/api/boards/{id}", boardId))
                 .andDo(print())
                 .andExpect(status().isOk())
-                .andExpect(jsonPath("$.title").value("제목"));
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2\""))
+                .andExpect(jsonPath("$.title").value("제목"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    void getBoard_NotModified() throws Exception {
+        // given
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", boardId);
+        ReflectionTestUtils.setField(board, "version", 0L);
+        given(boardService.getBoard(boardId)).willReturn(new BoardResponseDto(board));
+
+        // when & then
+        mockMvc.perform(get("/api/boards/{id}", boardId)
+                        .header(HttpHeaders.IF_NONE_MATCH, "\"1-0\""))
+                .andDo(print())
+                .andExpect(status().isNotModified())
+                .andExpect(content().string(""));
     }
 
     @Test
@@ -116,6 +163,7 @@ class BoardControllerTest {
         Board board2 = Board.create("제목2", "내용2", "작성자2");
         List<BoardResponseDto> responseDtos = List.of(new BoardResponseDto(board1), new BoardResponseDto(board2));
 
+        given(boardService.getBoardsVersion()).willReturn(BoardVersion.ofList(2, 2L, 0L));
         given(boardService.getAllBoards()).willReturn(responseDtos);
 
         // when & then
@@ -126,6 +174,60 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$[0].title").value("제목1"));
     }
 
+    @Test
+    void getAllBoards_NotModified() throws Exception {
+        // given
+        BoardVersion version = BoardVersion.ofList(2, 2L, 0L);
+        given(boardService.getBoardsVersion()).willReturn(version);
+
+        // when & then
+        mockMvc.perform(get("/api/boards")
+                        .header(HttpHeaders.IF_NONE_MATCH, version.getEtag()))
+                .andDo(print())
+                .andExpect(status().isNotModified());
+        verify(boardService, never()).getAllBoards();
+    }
+
+    @Test
+    void getBoardsByCursor() throws Exception {
+        // given
+        Board board = Board.create("제목1", "내용1", "작성자1");
+        BoardSliceResponseDto slice = new BoardSliceResponseDto(List.of(new BoardResponseDto(board)), "next", true);
+
+        given(boardService.getBoardsByCursor("cursor", 1)).willReturn(slice);
+
+        // when & then
+        mockMvc.perform(get("/api/boards/scroll")
+                        .param("cursor", "cursor")
+                        .param("size", "1"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.nextCursor").value("next"))
+                .andExpect(jsonPath("$.hasNext").value(true));
+    }
+
+    @Test
+    void getBoardSummaries() throws Exception {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        BoardSummarySliceResponseDto slice = new BoardSummarySliceResponseDto(
+                List.of(new BoardSummaryDto(1L, "제목1", "작성자1", now, now, "내용")), null, false);
+
+        given(boardService.getBoardSummaries(null, 20, 10)).willReturn(slice);
+
+        // when & then
+        mockMvc.perform(get("/api/boards/summaries")
+                        .param("preview", "10"))
+                .andDo(print())
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.content", hasSize(1)))
+                .andExpect(jsonPath("$.content[0].title").value("제목1"))
+                .andExpect(jsonPath("$.content[0].preview").value("내용"))
+                .andExpect(jsonPath("$.content[0].content").doesNotExist())
+                .andExpect(jsonPath("$.hasNext").value(false));
+    }
+
     @Test
     void updateBoard() throws Exception {
         // given
@@ -135,7 +237,7 @@ class BoardControllerTest {
         Board board = Board.create("수정된 제목", "수정된 내용", "작성자");
         BoardResponseDto responseDto = new BoardResponseDto(board);
 
-        given(boardService.updateBoard(any(Long.class), any(BoardRequestDto.class))).willReturn(responseDto);
+        given(boardUpdateFacade.updateBoard(eq(boardId), any(BoardRequestDto.class), isNull())).willReturn(responseDto);
 
         // when & then
         mockMvc.perform(put("/api/boards/{id}", boardId)
@@ -146,6 +248,47 @@ class BoardControllerTest {
                 .andExpect(jsonPath("$.title").value("수정된 제목"));
     }
 
+    @Test
+    void updateBoard_IfMatchConflict() throws Exception {
+        // given
+        Long boardId = 1L;
+        BoardRequestDto requestDto = new BoardRequestDto("수정된 제목", "수정된 내용", null);
+
+        Board board = Board.create("다른 제목", "다른 내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", boardId);
+        ReflectionTestUtils.setField(board, "version", 2L);
+        BoardResponseDto current = new BoardResponseDto(board);
+
+        given(boardUpdateFacade.updateBoard(eq(boardId), any(BoardRequestDto.class), eq(1L)))
+                .willThrow(new BoardConflictException(current));
+
+        // when & then
+        mockMvc.perform(put("/api/boards/{id}", boardId)
+                        .header(HttpHeaders.IF_MATCH, "\"1-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andDo(print())
+                .andExpect(status().isConflict())
+                .andExpect(header().string(HttpHeaders.ETAG, "\"1-2\""))
+                .andExpect(jsonPath("$.title").value("다른 제목"))
+                .andExpect(jsonPath("$.version").value(2));
+    }
+
+    @Test
+    void updateBoard_InvalidIfMatch() throws Exception {
+        // given
+        Long boardId = 1L;
+        BoardRequestDto requestDto = new BoardRequestDto("수정된 제목", "수정된 내용", null);
+
+        // when & then
+        mockMvc.perform(put("/api/boards/{id}", boardId)
+                        .header(HttpHeaders.IF_MATCH, "\"2-1\"")
+                        .contentType(MediaType.APPLICATION_JSON)
+                        .content(objectMapper.writeValueAsString(requestDto)))
+                .andDo(print())
+                .andExpect(status().isBadRequest());
+    }
+
     @Test
     void updateBoard_Unauthenticated() throws Exception {
         // given
@@ -1,6 +1,8 @@
 package com.sparta.testcode.domain.board.integration;
 
 import com.sparta.testcode.domain.auth.dto.LoginRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardBulkRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardBulkResponseDto;
 import com.sparta.testcode.domain.board.dto.BoardRequestDto;
 import com.sparta.testcode.domain.board.dto.BoardResponseDto;
 import com.sparta.testcode.domain.board.entity.Board;
@@ -18,6 +20,9 @@ import org.springframework.http.*;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @SpringBootTest(webEnvironment = SpringBootTest.WebEnvironment.RANDOM_PORT)
@@ -124,6 +129,34 @@ class BoardIntegrationTest {
         assertThat(response.getBody()).hasSize(2);
     }
 
+    @Test
+    void exportBoards() {
+        // given
+        boardRepository.save(Board.create("제목1", "내용1", "작성자1"));
+        boardRepository.save(Board.create("제목2", "내용2", "작성자2"));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(JwtUtil.AUTHORIZATION_HEADER, token);
+        HttpEntity<Void> request = new HttpEntity<>(headers);
+
+        // when
+        ResponseEntity<String> response = restTemplate.exchange(
+                "/api/boards/export",
+                HttpMethod.GET,
+                request,
+                String.class
+        );
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getHeaders().getContentType().toString()).startsWith("application/x-ndjson");
+        assertThat(response.getBody()).isNotNull();
+        String[] lines = response.getBody().split("\n");
+        assertThat(lines).hasSize(2);
+        assertThat(lines[0]).contains("\"title\":\"제목1\"");
+        assertThat(lines[1]).contains("\"title\":\"제목2\"");
+    }
+
     @Test
     void updateBoard() {
         // given
@@ -154,6 +187,34 @@ class BoardIntegrationTest {
         assertThat(updatedBoard.getTitle()).isEqualTo("수정된 제목");
     }
 
+    @Test
+    void updateBoard_IfMatch() {
+        // given
+        Board savedBoard = boardRepository.save(Board.create("제목", "내용", "작성자"));
+        String etag = "\"" + savedBoard.getId() + "-" + savedBoard.getVersion() + "\"";
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(JwtUtil.AUTHORIZATION_HEADER, token);
+        headers.setIfMatch(etag);
+        HttpEntity<BoardRequestDto> first = new HttpEntity<>(new BoardRequestDto("첫 번째 수정", null, null), headers);
+        HttpEntity<BoardRequestDto> second = new HttpEntity<>(new BoardRequestDto("두 번째 수정", null, null), headers);
+
+        // when
+        ResponseEntity<BoardResponseDto> firstResponse = restTemplate.exchange(
+                "/api/boards/" + savedBoard.getId(), HttpMethod.PUT, first, BoardResponseDto.class);
+        ResponseEntity<BoardResponseDto> secondResponse = restTemplate.exchange(
+                "/api/boards/" + savedBoard.getId(), HttpMethod.PUT, second, BoardResponseDto.class);
+
+        // then
+        assertThat(firstResponse.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(firstResponse.getBody().getVersion()).isEqualTo(savedBoard.getVersion() + 1);
+        assertThat(firstResponse.getBody().getContent()).isEqualTo("내용");
+        assertThat(secondResponse.getStatusCode()).isEqualTo(HttpStatus.CONFLICT);
+        assertThat(secondResponse.getHeaders().getETag()).isEqualTo(
+                "\"" + savedBoard.getId() + "-" + (savedBoard.getVersion() + 1) + "\"");
+        assertThat(secondResponse.getBody().getTitle()).isEqualTo("첫 번째 수정");
+    }
+
     @Test
     void deleteBoard() {
         // given
@@ -178,4 +239,42 @@ class BoardIntegrationTest {
         // Verify DB
         assertThat(boardRepository.existsById(savedBoard.getId())).isFalse();
     }
+
+    @Test
+    void processBulk() {
+        // given
+        Board existing = boardRepository.save(Board.create("제목", "내용", "작성자"));
+        Board deleted = boardRepository.save(Board.create("삭제할 제목", "내용", "작성자"));
+
+        List<BoardBulkRequestDto.Item> items = new ArrayList<>();
+        for (int i = 0; i < 1200; i++) {
+            items.add(new BoardBulkRequestDto.Item(BoardBulkRequestDto.Operation.CREATE, null,
+                    new BoardRequestDto("제목" + i, "내용" + i, "작성자")));
+        }
+        items.add(new BoardBulkRequestDto.Item(BoardBulkRequestDto.Operation.UPDATE, existing.getId(),
+                new BoardRequestDto("수정된 제목", "수정된 내용", null)));
+        items.add(new BoardBulkRequestDto.Item(BoardBulkRequestDto.Operation.DELETE, deleted.getId(), null));
+        items.add(new BoardBulkRequestDto.Item(BoardBulkRequestDto.Operation.DELETE, -1L, null));
+
+        HttpHeaders headers = new HttpHeaders();
+        headers.set(JwtUtil.AUTHORIZATION_HEADER, token);
+        HttpEntity<BoardBulkRequestDto> request = new HttpEntity<>(new BoardBulkRequestDto(items), headers);
+
+        // when
+        ResponseEntity<BoardBulkResponseDto> response = restTemplate.postForEntity("/api/boards/bulk", request, BoardBulkResponseDto.class);
+
+        // then
+        assertThat(response.getStatusCode()).isEqualTo(HttpStatus.OK);
+        assertThat(response.getBody()).isNotNull();
+        assertThat(response.getBody().getSucceeded()).isEqualTo(1202);
+        assertThat(response.getBody().getFailed()).isEqualTo(1);
+        assertThat(response.getBody().getResults()).hasSize(1203);
+        assertThat(response.getBody().getResults().get(0).getId()).isNotNull();
+        assertThat(response.getBody().getResults().get(1202).getStatus()).isEqualTo(BoardBulkResponseDto.Status.FAILED);
+
+        // Verify DB
+        assertThat(boardRepository.count()).isEqualTo(1201);
+        assertThat(boardRepository.findById(existing.getId()).orElseThrow().getTitle()).isEqualTo("수정된 제목");
+        assertThat(boardRepository.existsById(deleted.getId())).isFalse();
+    }
 }
@@ -1,15 +1,22 @@
 package com.sparta.testcode.domain.board.repository;
 
+import com.sparta.testcode.domain.board.dto.BoardSummaryDto;
 import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.global.config.JpaConfig;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.test.context.ActiveProfiles;
 
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
 
 @DataJpaTest
 @ActiveProfiles("test")
+@Import(JpaConfig.class)
 class BoardRepositoryTest {
 
     @Autowired
@@ -72,4 +79,41 @@ class BoardRepositoryTest {
         var foundBoard = boardRepository.findById(savedBoard.getId()).orElse(null);
         assertThat(foundBoard).isNull();
     }
+
+    @Test
+    void findPageBefore() {
+        // given
+        Board board1 = boardRepository.save(Board.create("제목1", "내용1", "작성자1"));
+        Board board2 = boardRepository.save(Board.create("제목2", "내용2", "작성자2"));
+        Board board3 = boardRepository.save(Board.create("제목3", "내용3", "작성자3"));
+
+        // when
+        List<Board> firstPage = boardRepository.findFirstPage(PageRequest.of(0, 2));
+        Board last = firstPage.get(firstPage.size() - 1);
+        List<Board> secondPage = boardRepository.findPageBefore(last.getCreatedAt(), last.getId(), PageRequest.of(0, 2));
+
+        // then
+        assertThat(firstPage).extracting(Board::getId).containsExactly(board3.getId(), board2.getId());
+        assertThat(secondPage).extracting(Board::getId).containsExactly(board1.getId());
+    }
+
+    @Test
+    void findSummaryPages() {
+        // given
+        Board board1 = boardRepository.save(Board.create("제목1", "가나다라마바사", "작성자1"));
+        Board board2 = boardRepository.save(Board.create("제목2", "아자차카타파하", "작성자2"));
+
+        // when
+        List<BoardSummaryDto> firstPage = boardRepository.findSummaryFirstPage(PageRequest.of(0, 1));
+        BoardSummaryDto last = firstPage.get(0);
+        List<BoardSummaryDto> secondPage = boardRepository.findSummaryPageBeforeWithPreview(
+                last.getCreatedAt(), last.getId(), 3, PageRequest.of(0, 1));
+
+        // then
+        assertThat(firstPage).extracting(BoardSummaryDto::getId).containsExactly(board2.getId());
+        assertThat(firstPage.get(0).getTitle()).isEqualTo("제목2");
+        assertThat(firstPage.get(0).getPreview()).isNull();
+        assertThat(secondPage).extracting(BoardSummaryDto::getId).containsExactly(board1.getId());
+        assertThat(secondPage.get(0).getPreview()).isEqualTo("가나다");
+    }
 }
@@ -0,0 +1,95 @@
+package com.sparta.testcode.domain.board.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BoardSearchIndexTest {
+
+    private BoardSearchIndex boardSearchIndex;
+
+    @BeforeEach
+    void setUp() {
+        boardSearchIndex = new BoardSearchIndex();
+    }
+
+    @Test
+    void tokenize() {
+        // when & then
+        assertThat(BoardSearchIndex.tokenize("스프링 부트, A")).containsExactly("스프", "프링", "부트", "a");
+        assertThat(BoardSearchIndex.tokenize("ＪＰＡ")).containsExactly("jp", "pa");
+    }
+
+    @Test
+    void search_PartialKoreanWord() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.index(1L, "스프링 입문", "스프링부트로 게시판 만들기", now);
+        boardSearchIndex.index(2L, "자바 기초", "컬렉션 정리", now);
+
+        // when & then
+        assertThat(boardSearchIndex.search("스프링", 10)).containsExactly(1L);
+        assertThat(boardSearchIndex.search("게시판", 10)).containsExactly(1L);
+        assertThat(boardSearchIndex.search("스프링 자바", 10)).isEmpty();
+    }
+
+    @Test
+    void search_RankByTitle() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.index(1L, "일상", "오늘은 검색 기능을 만들었다", now);
+        boardSearchIndex.index(2L, "검색 기능 정리", "역색인", now);
+        boardSearchIndex.index(3L, "기타", "내용", now);
+
+        // when & then
+        assertThat(boardSearchIndex.search("검색", 10)).containsExactly(2L, 1L);
+        assertThat(boardSearchIndex.search("검색", 1)).containsExactly(2L);
+    }
+
+    @Test
+    void index_ReplacesOldTerms() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.index(1L, "제목", "옛날 내용", now);
+
+        // when
+        boardSearchIndex.index(1L, "제목", "새로운 내용", now.plusSeconds(1));
+
+        // then
+        assertThat(boardSearchIndex.search("옛날", 10)).isEmpty();
+        assertThat(boardSearchIndex.search("새로운", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void index_IgnoresStaleSnapshot() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.index(1L, "제목", "새로운 내용", now);
+
+        // when
+        boardSearchIndex.index(1L, "제목", "옛날 내용", now.minusSeconds(1));
+
+        // then
+        assertThat(boardSearchIndex.search("새로운", 10)).containsExactly(1L);
+    }
+
+    @Test
+    void remove_DuringRebuild() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        boardSearchIndex.startRebuild();
+        boardSearchIndex.index(1L, "검색", "내용", now);
+
+        // when
+        boardSearchIndex.remove(1L);
+        boardSearchIndex.indexSnapshot(1L, "검색", "내용", now);
+        boardSearchIndex.finishRebuild();
+
+        // then
+        assertThat(boardSearchIndex.search("검색", 10)).isEmpty();
+        assertThat(boardSearchIndex.size()).isZero();
+    }
+}
@@ -0,0 +1,69 @@
+package com.sparta.testcode.domain.board.service;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * MySQL 의 테이블 시퀀스를 H2 테이블로 흉내 내 확인한다.
+ */
+class BoardSequenceInitializerTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private BoardSequenceInitializer boardSequenceInitializer;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:board_seq;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("drop table if exists board");
+        jdbcTemplate.execute("drop table if exists board_seq");
+        jdbcTemplate.execute("create table board (id bigint primary key)");
+        jdbcTemplate.execute("create table board_seq (next_val bigint)");
+        jdbcTemplate.update("insert into board_seq values (1)");
+        boardSequenceInitializer = new BoardSequenceInitializer(jdbcTemplate);
+    }
+
+    @Test
+    void alignsAfterExistingIds() {
+        // given
+        jdbcTemplate.update("insert into board (id) values (5), (120)");
+
+        // when
+        boardSequenceInitializer.afterPropertiesSet();
+
+        // then
+        assertThat(nextVal()).isEqualTo(170L);
+    }
+
+    @Test
+    void neverMovesBackwards() {
+        // given
+        jdbcTemplate.update("insert into board (id) values (120)");
+        jdbcTemplate.update("update board_seq set next_val = 1000");
+
+        // when
+        boardSequenceInitializer.afterPropertiesSet();
+
+        // then
+        assertThat(nextVal()).isEqualTo(1000L);
+    }
+
+    @Test
+    void skipsWithoutSequenceTable() {
+        // given
+        jdbcTemplate.execute("drop table board_seq");
+
+        // when
+        boardSequenceInitializer.afterPropertiesSet();
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from board", Long.class)).isZero();
+    }
+
+    private Long nextVal() {
+        return jdbcTemplate.queryForObject("select next_val from board_seq", Long.class);
+    }
+}
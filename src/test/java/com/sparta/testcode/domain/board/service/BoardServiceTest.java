@@ -1,22 +1,35 @@
 package com.sparta.testcode.domain.board.service;
 
+import com.sparta.testcode.domain.board.dto.BoardCursor;
 import com.sparta.testcode.domain.board.dto.BoardRequestDto;
 import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSliceResponseDto;
+import com.sparta.testcode.domain.board.dto.BoardSummaryDto;
+import com.sparta.testcode.domain.board.dto.BoardSummarySliceResponseDto;
 import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
 import com.sparta.testcode.domain.board.repository.BoardRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.Spy;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.Duration;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
 import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -25,6 +38,14 @@ class BoardServiceTest {
     @Mock
     private BoardRepository boardRepository;
 
+    @Mock
+    private BoardSearchIndex boardSearchIndex;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    @Spy
+    private BoardCache boardCache = new BoardCache(meterRegistry, 100, Duration.ofMinutes(1));
+
     @InjectMocks
     private BoardService boardService;
 
@@ -61,6 +82,53 @@ class BoardServiceTest {
         assertThat(responseDto.getTitle()).isEqualTo("제목");
     }
 
+    @Test
+    void getBoard_Cached() {
+        // given
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+
+        // when
+        boardService.getBoard(boardId);
+        BoardResponseDto responseDto = boardService.getBoard(boardId);
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("제목");
+        verify(boardRepository, times(1)).findById(boardId);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "board").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void getBoard_NotFound() {
+        // given
+        Long boardId = 1L;
+        given(boardRepository.findById(boardId)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> boardService.getBoard(boardId))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("보드를 찾을 수 없습니다.: " + boardId);
+    }
+
+    @Test
+    void updateBoard_EvictsCache() {
+        // given
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+        boardService.getBoard(boardId);
+
+        // when
+        boardService.updateBoard(boardId, new BoardRequestDto("수정된 제목", "수정된 내용", null));
+        BoardResponseDto responseDto = boardService.getBoard(boardId);
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("수정된 제목");
+        verify(boardRepository, times(3)).findById(boardId);
+    }
+
     @Test
     void getAllBoards() {
         // given
@@ -77,6 +145,110 @@ class BoardServiceTest {
         assertThat(responseDtos.get(1).getTitle()).isEqualTo("제목2");
     }
 
+    @Test
+    void getBoardsByCursor_FirstPage() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        Board board1 = createBoard(3L, "제목3", now);
+        Board board2 = createBoard(2L, "제목2", now);
+        Board board3 = createBoard(1L, "제목1", now.minusMinutes(1));
+        given(boardRepository.findFirstPage(any(Pageable.class))).willReturn(List.of(board1, board2, board3));
+
+        // when
+        BoardSliceResponseDto slice = boardService.getBoardsByCursor(null, 2);
+
+        // then
+        assertThat(slice.getContent()).hasSize(2);
+        assertThat(slice.isHasNext()).isTrue();
+        BoardCursor nextCursor = BoardCursor.decode(slice.getNextCursor());
+        assertThat(nextCursor.getId()).isEqualTo(2L);
+        assertThat(nextCursor.getCreatedAt()).isEqualTo(now);
+    }
+
+    @Test
+    void getBoardsByCursor_LastPage() {
+        // given
+        LocalDateTime now = LocalDateTime.of(2024, 1, 1, 12, 0);
+        String cursor = BoardCursor.encode(createBoard(2L, "제목2", now));
+        Board board = createBoard(1L, "제목1", now.minusMinutes(1));
+        given(boardRepository.findPageBefore(eq(now), eq(2L), any(Pageable.class))).willReturn(List.of(board));
+
+        // when
+        BoardSliceResponseDto slice = boardService.getBoardsByCursor(cursor, 2);
+
+        // then
+        assertThat(slice.getContent()).hasSize(1);
+        assertThat(slice.isHasNext()).isFalse();
+        assertThat(slice.getNextCursor()).isNull();
+    }
+
+    @Test
+    void getBoardsByCursor_InvalidCursor() {
+        // when & then
+        assertThatThrownBy(() -> boardService.getBoardsByCursor("invalid", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.: invalid");
+    }
+
+    @Test
+    void getBoardSummaries() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        BoardSummaryDto first = new BoardSummaryDto(3L, "제목3", "작성자", now, now);
+        BoardSummaryDto second = new BoardSummaryDto(2L, "제목2", "작성자", now, now);
+        BoardSummaryDto third = new BoardSummaryDto(1L, "제목1", "작성자", now, now);
+        given(boardRepository.findSummaryFirstPage(any(Pageable.class))).willReturn(List.of(first, second, third));
+
+        // when
+        BoardSummarySliceResponseDto result = boardService.getBoardSummaries(null, 2, 0);
+
+        // then
+        assertThat(result.getContent()).extracting(BoardSummaryDto::getId).containsExactly(3L, 2L);
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(BoardCursor.decode(result.getNextCursor()).getId()).isEqualTo(2L);
+    }
+
+    @Test
+    void getBoardSummaries_WithPreview() {
+        // given
+        LocalDateTime now = LocalDateTime.now();
+        String cursor = BoardCursor.encode(now, 5L);
+        BoardSummaryDto summary = new BoardSummaryDto(4L, "제목4", "작성자", now, now, "내용");
+        given(boardRepository.findSummaryPageBeforeWithPreview(eq(now), eq(5L), eq(200), any(Pageable.class)))
+                .willReturn(List.of(summary));
+
+        // when
+        BoardSummarySliceResponseDto result = boardService.getBoardSummaries(cursor, 20, 1000);
+
+        // then
+        assertThat(result.getContent()).extracting(BoardSummaryDto::getPreview).containsExactly("내용");
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    void searchBoards() {
+        // given
+        Board first = createBoard(1L, "스프링 검색", LocalDateTime.now());
+        Board second = createBoard(2L, "스프링 부트 검색", LocalDateTime.now());
+        given(boardSearchIndex.search("검색", 10)).willReturn(List.of(2L, 1L));
+        given(boardRepository.findAllById(List.of(2L, 1L))).willReturn(List.of(first, second));
+
+        // when
+        List<BoardResponseDto> result = boardService.searchBoards("검색", 10);
+
+        // then
+        assertThat(result).extracting(BoardResponseDto::getId).containsExactly(2L, 1L);
+    }
+
+    @Test
+    void searchBoards_BlankQuery() {
+        // when & then
+        assertThatThrownBy(() -> boardService.searchBoards(" ", 10))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("검색어를 입력해주세요.");
+    }
+
     @Test
     void updateBoard() {
         // given
@@ -94,6 +266,75 @@ class BoardServiceTest {
         assertThat(responseDto.getContent()).isEqualTo("수정된 내용");
     }
 
+    @Test
+    void updateBoard_KeepsNullFields() {
+        // given
+        Long boardId = 1L;
+        Board board = Board.create("제목", "내용", "작성자");
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+
+        // when
+        BoardResponseDto responseDto = boardService.updateBoard(boardId, new BoardRequestDto(null, "수정된 내용", null));
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("제목");
+        assertThat(responseDto.getContent()).isEqualTo("수정된 내용");
+    }
+
+    @Test
+    void updateBoard_VersionMismatch() {
+        // given
+        Long boardId = 1L;
+        Board board = createBoard(boardId, "제목", LocalDateTime.now());
+        ReflectionTestUtils.setField(board, "version", 2L);
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+
+        // when & then
+        assertThatThrownBy(() -> boardService.updateBoard(boardId, new BoardRequestDto("수정된 제목", "수정된 내용", null), 1L))
+                .isInstanceOf(BoardConflictException.class)
+                .satisfies(e -> assertThat(((BoardConflictException) e).getCurrent().getVersion()).isEqualTo(2L));
+        assertThat(board.getTitle()).isEqualTo("제목");
+    }
+
+    @Test
+    void mergeBoard_SameFieldChanged() {
+        // given
+        Long boardId = 1L;
+        Board board = createBoard(boardId, "제목", LocalDateTime.now());
+        ReflectionTestUtils.setField(board, "version", 1L);
+        BoardResponseDto base = new BoardResponseDto(board);
+        // 다른 요청이 같은 제목을 먼저 바꿔 커밋했다
+        board.update("다른 제목", "내용");
+        ReflectionTestUtils.setField(board, "version", 2L);
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+
+        // when & then
+        assertThatThrownBy(() -> boardService.mergeBoard(boardId, new BoardRequestDto("수정된 제목", null, null), base))
+                .isInstanceOf(BoardConflictException.class)
+                .satisfies(e -> assertThat(((BoardConflictException) e).getCurrent().getTitle()).isEqualTo("다른 제목"));
+        assertThat(board.getTitle()).isEqualTo("다른 제목");
+    }
+
+    @Test
+    void mergeBoard_OtherFieldChanged() {
+        // given
+        Long boardId = 1L;
+        Board board = createBoard(boardId, "제목", LocalDateTime.now());
+        ReflectionTestUtils.setField(board, "version", 1L);
+        BoardResponseDto base = new BoardResponseDto(board);
+        // 다른 요청이 본문만 먼저 바꿔 커밋했다
+        board.update("제목", "다른 내용");
+        ReflectionTestUtils.setField(board, "version", 2L);
+        given(boardRepository.findById(boardId)).willReturn(Optional.of(board));
+
+        // when
+        BoardResponseDto responseDto = boardService.mergeBoard(boardId, new BoardRequestDto("수정된 제목", null, null), base);
+
+        // then
+        assertThat(responseDto.getTitle()).isEqualTo("수정된 제목");
+        assertThat(responseDto.getContent()).isEqualTo("다른 내용");
+    }
+
     @Test
     void updateBoard_NotFound() {
         // given
@@ -118,6 +359,7 @@ class BoardServiceTest {
 
         // then
         verify(boardRepository).deleteById(boardId);
+        verify(boardSearchIndex).remove(boardId);
     }
 
     @Test
@@ -131,4 +373,11 @@ class BoardServiceTest {
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("보드를 찾을 수 없습니다.: " + boardId);
     }
+
+    private Board createBoard(Long id, String title, LocalDateTime createdAt) {
+        Board board = Board.create(title, "내용", "작성자");
+        ReflectionTestUtils.setField(board, "id", id);
+        ReflectionTestUtils.setField(board, "createdAt", createdAt);
+        return board;
+    }
 }
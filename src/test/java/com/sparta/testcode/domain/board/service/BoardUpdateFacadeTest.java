@@ -0,0 +1,102 @@
+package com.sparta.testcode.domain.board.service;
+
+import com.sparta.testcode.domain.board.dto.BoardRequestDto;
+import com.sparta.testcode.domain.board.dto.BoardResponseDto;
+import com.sparta.testcode.domain.board.entity.Board;
+import com.sparta.testcode.domain.board.exception.BoardConflictException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.orm.ObjectOptimisticLockingFailureException;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class BoardUpdateFacadeTest {
+
+    private static final Long BOARD_ID = 1L;
+
+    @Mock
+    private BoardService boardService;
+
+    private BoardUpdateFacade boardUpdateFacade;
+
+    private final BoardRequestDto requestDto = new BoardRequestDto("수정된 제목", "수정된 내용", null);
+
+    @BeforeEach
+    void setUp() {
+        boardUpdateFacade = new BoardUpdateFacade(boardService, 2);
+    }
+
+    @Test
+    void updateBoard_RetriesWithoutExpectedVersion() {
+        // given
+        BoardResponseDto base = new BoardResponseDto(Board.create("제목", "내용", "작성자"));
+        BoardResponseDto updated = new BoardResponseDto(Board.create("수정된 제목", "수정된 내용", "작성자"));
+        given(boardService.getLatestBoard(BOARD_ID)).willReturn(base);
+        given(boardService.mergeBoard(BOARD_ID, requestDto, base))
+                .willThrow(optimisticLockFailure())
+                .willReturn(updated);
+
+        // when
+        BoardResponseDto responseDto = boardUpdateFacade.updateBoard(BOARD_ID, requestDto, null);
+
+        // then
+        assertThat(responseDto).isSameAs(updated);
+        verify(boardService, times(2)).mergeBoard(BOARD_ID, requestDto, base);
+    }
+
+    @Test
+    void updateBoard_StopsWhenRetryHitsSameField() {
+        // given
+        BoardResponseDto base = new BoardResponseDto(Board.create("제목", "내용", "작성자"));
+        BoardResponseDto current = new BoardResponseDto(Board.create("다른 제목", "내용", "작성자"));
+        given(boardService.getLatestBoard(BOARD_ID)).willReturn(base);
+        given(boardService.mergeBoard(BOARD_ID, requestDto, base))
+                .willThrow(optimisticLockFailure())
+                .willThrow(new BoardConflictException(current));
+
+        // when & then
+        assertThatThrownBy(() -> boardUpdateFacade.updateBoard(BOARD_ID, requestDto, null))
+                .isInstanceOf(BoardConflictException.class)
+                .satisfies(e -> assertThat(((BoardConflictException) e).getCurrent()).isSameAs(current));
+        verify(boardService, times(2)).mergeBoard(BOARD_ID, requestDto, base);
+    }
+
+    @Test
+    void updateBoard_GivesUpAfterMaxRetries() {
+        // given
+        BoardResponseDto base = new BoardResponseDto(Board.create("제목", "내용", "작성자"));
+        given(boardService.getLatestBoard(BOARD_ID)).willReturn(base);
+        given(boardService.mergeBoard(BOARD_ID, requestDto, base)).willThrow(optimisticLockFailure());
+
+        // when & then
+        assertThatThrownBy(() -> boardUpdateFacade.updateBoard(BOARD_ID, requestDto, null))
+                .isInstanceOf(BoardConflictException.class);
+        verify(boardService, times(3)).mergeBoard(BOARD_ID, requestDto, base);
+    }
+
+    @Test
+    void updateBoard_NoRetryWithExpectedVersion() {
+        // given
+        BoardResponseDto current = new BoardResponseDto(Board.create("다른 제목", "다른 내용", "작성자"));
+        given(boardService.updateBoard(BOARD_ID, requestDto, 1L)).willThrow(optimisticLockFailure());
+        given(boardService.getLatestBoard(BOARD_ID)).willReturn(current);
+
+        // when & then
+        assertThatThrownBy(() -> boardUpdateFacade.updateBoard(BOARD_ID, requestDto, 1L))
+                .isInstanceOf(BoardConflictException.class)
+                .satisfies(e -> assertThat(((BoardConflictException) e).getCurrent()).isSameAs(current));
+        verify(boardService, times(1)).updateBoard(BOARD_ID, requestDto, 1L);
+    }
+
+    private ObjectOptimisticLockingFailureException optimisticLockFailure() {
+        return new ObjectOptimisticLockingFailureException(Board.class, BOARD_ID);
+    }
+}
@@ -0,0 +1,126 @@
+package com.sparta.testcode.domain.chat.integration;
+
+import com.sparta.testcode.TestCodeApplication;
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.servlet.context.ServletWebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+import org.springframework.messaging.converter.MappingJackson2MessageConverter;
+import org.springframework.messaging.simp.stomp.StompFrameHandler;
+import org.springframework.messaging.simp.stomp.StompHeaders;
+import org.springframework.messaging.simp.stomp.StompSession;
+import org.springframework.messaging.simp.stomp.StompSessionHandlerAdapter;
+import org.springframework.web.socket.client.standard.StandardWebSocketClient;
+import org.springframework.web.socket.messaging.WebSocketStompClient;
+import org.springframework.web.socket.sockjs.client.SockJsClient;
+import org.springframework.web.socket.sockjs.client.WebSocketTransport;
+
+import java.lang.reflect.Type;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 브로커 릴레이 모드 통합 테스트
+ *
+ * 핵심 개념:
+ * - 채팅 노드 두 개를 같은 외부 브로커(StompBrokerStandIn)에 relay 모드로 연결
+ * - node1 에 구독한 클라이언트가 node2 로 보낸 메시지를 받는지 확인
+ */
+class BrokerRelayIntegrationTest {
+
+    private static StompBrokerStandIn broker;
+    private static ConfigurableApplicationContext node1;
+    private static ConfigurableApplicationContext node2;
+
+    @BeforeAll
+    static void setUp() throws Exception {
+        broker = StompBrokerStandIn.start();
+        node1 = startNode("relay-node1");
+        node2 = startNode("relay-node2");
+
+        // 각 노드의 시스템 세션이 브로커에 연결될 때까지 대기
+        StompBrokerStandIn.await(() -> broker.connectedCount() >= 2, Duration.ofSeconds(10));
+    }
+
+    @AfterAll
+    static void tearDown() throws Exception {
+        node1.close();
+        node2.close();
+        broker.close();
+    }
+
+    private static ConfigurableApplicationContext startNode(String name) {
+        return new SpringApplicationBuilder(TestCodeApplication.class)
+                .properties(
+                        "server.port=0",
+                        "spring.datasource.url=jdbc:h2:mem:" + name + ";MODE=MySQL",
+                        "chat.broker.mode=relay",
+                        "chat.broker.relay.host=localhost",
+                        "chat.broker.relay.port=" + broker.getPort()
+                )
+                .run();
+    }
+
+    private static StompSession connect(ConfigurableApplicationContext node) throws Exception {
+        int port = ((ServletWebServerApplicationContext) node).getWebServer().getPort();
+        WebSocketStompClient stompClient = new WebSocketStompClient(
+                new SockJsClient(List.of(new WebSocketTransport(new StandardWebSocketClient())))
+        );
+        stompClient.setMessageConverter(new MappingJackson2MessageConverter());
+        return stompClient
+                .connectAsync("http://localhost:" + port + "/ws-stomp", new StompSessionHandlerAdapter() {})
+                .get(3, TimeUnit.SECONDS);
+    }
+
+    @Test
+    @DisplayName("다른 노드로 보낸 메시지를 구독 중인 노드의 클라이언트가 수신")
+    void testCrossNodeBroadcast() throws Exception {
+        // given
+        String roomId = "relay-room";
+        String destination = "/topic/chat/room/" + roomId;
+        BlockingQueue<ChatMessageDto> messageQueue = new LinkedBlockingQueue<>();
+
+        StompSession subscriber = connect(node1);
+        subscriber.subscribe(destination, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                messageQueue.offer((ChatMessageDto) payload);
+            }
+        });
+        StompBrokerStandIn.await(() -> broker.subscriptionCount(destination) == 1, Duration.ofSeconds(3));
+
+        StompSession publisher = connect(node2);
+
+        // when
+        ChatMessageDto message = new ChatMessageDto();
+        message.setType(ChatMessageDto.MessageType.TALK);
+        message.setRoomId(roomId);
+        message.setSender("발신자");
+        message.setMessage("다른 노드에서 보낸 메시지");
+        publisher.send("/app/chat/message", message);
+
+        // then
+        ChatMessageDto received = messageQueue.poll(3, TimeUnit.SECONDS);
+        assertThat(received).isNotNull();
+        assertThat(received.getMessage()).isEqualTo("다른 노드에서 보낸 메시지");
+        assertThat(received.getSender()).isEqualTo("발신자");
+
+        // cleanup
+        subscriber.disconnect();
+        publisher.disconnect();
+    }
+}
@@ -0,0 +1,235 @@
+package com.sparta.testcode.domain.chat.integration;
+
+import java.io.*;
+import java.net.ServerSocket;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.BooleanSupplier;
+
+/**
+ * 브로커 릴레이 테스트용 최소 STOMP 브로커
+ *
+ * CONNECT / SUBSCRIBE / UNSUBSCRIBE / SEND / DISCONNECT 만 처리하며,
+ * SEND 된 메시지를 같은 destination 을 구독한 모든 연결에 MESSAGE 프레임으로 전달한다.
+ * 하트비트는 협상하지 않는다(CONNECTED heart-beat:0,0).
+ */
+class StompBrokerStandIn implements AutoCloseable {
+
+    private final ServerSocket serverSocket;
+    private final ExecutorService executor = Executors.newCachedThreadPool();
+    private final List<Connection> connections = new CopyOnWriteArrayList<>();
+    private final AtomicLong messageIds = new AtomicLong();
+
+    private StompBrokerStandIn(ServerSocket serverSocket) {
+        this.serverSocket = serverSocket;
+    }
+
+    static StompBrokerStandIn start() throws IOException {
+        StompBrokerStandIn broker = new StompBrokerStandIn(new ServerSocket(0));
+        broker.executor.execute(broker::acceptLoop);
+        return broker;
+    }
+
+    int getPort() {
+        return serverSocket.getLocalPort();
+    }
+
+    long connectedCount() {
+        return connections.stream().filter(connection -> connection.connected).count();
+    }
+
+    long subscriptionCount(String destination) {
+        return connections.stream()
+                .flatMap(connection -> connection.subscriptions.values().stream())
+                .filter(destination::equals)
+                .count();
+    }
+
+    static void await(BooleanSupplier condition, Duration timeout) throws InterruptedException {
+        long deadline = System.nanoTime() + timeout.toNanos();
+        while (!condition.getAsBoolean()) {
+            if (System.nanoTime() > deadline) {
+                throw new AssertionError("조건을 만족하지 못했습니다 (timeout " + timeout + ")");
+            }
+            Thread.sleep(50);
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        serverSocket.close();
+        connections.forEach(Connection::close);
+        executor.shutdownNow();
+    }
+
+    private void acceptLoop() {
+        while (!serverSocket.isClosed()) {
+            try {
+                Connection connection = new Connection(serverSocket.accept());
+                connections.add(connection);
+                executor.execute(connection::readLoop);
+            } catch (IOException e) {
+                return;
+            }
+        }
+    }
+
+    private void deliver(Frame frame) {
+        String destination = frame.headers().get("destination");
+        for (Connection connection : connections) {
+            connection.subscriptions.forEach((subscriptionId, subscribed) -> {
+                if (subscribed.equals(destination)) {
+                    connection.sendMessage(subscriptionId, destination, frame.headers().get("content-type"), frame.body());
+                }
+            });
+        }
+    }
+
+    private record Frame(String command, Map<String, String> headers, byte[] body) {
+    }
+
+    private class Connection {
+
+        private final Socket socket;
+        private final InputStream in;
+        private final OutputStream out;
+        private final Map<String, String> subscriptions = new ConcurrentHashMap<>();
+        private volatile boolean connected;
+
+        Connection(Socket socket) throws IOException {
+            this.socket = socket;
+            this.in = new BufferedInputStream(socket.getInputStream());
+            this.out = new BufferedOutputStream(socket.getOutputStream());
+        }
+
+        void readLoop() {
+            try {
+                Frame frame;
+                while ((frame = readFrame()) != null) {
+                    handle(frame);
+                }
+            } catch (IOException ignored) {
+                // 연결 종료
+            } finally {
+                close();
+            }
+        }
+
+        private void handle(Frame frame) throws IOException {
+            String receipt = frame.headers().get("receipt");
+            switch (frame.command()) {
+                case "CONNECT", "STOMP" -> {
+                    connected = true;
+                    write("CONNECTED", Map.of("version", "1.2", "heart-beat", "0,0"), new byte[0]);
+                }
+                case "SUBSCRIBE" -> subscriptions.put(frame.headers().get("id"), frame.headers().get("destination"));
+                case "UNSUBSCRIBE" -> subscriptions.remove(frame.headers().get("id"));
+                case "SEND" -> deliver(frame);
+                case "DISCONNECT" -> {
+                    if (receipt != null) {
+                        write("RECEIPT", Map.of("receipt-id", receipt), new byte[0]);
+                    }
+                    close();
+                    return;
+                }
+                default -> {
+                }
+            }
+            if (receipt != null) {
+                write("RECEIPT", Map.of("receipt-id", receipt), new byte[0]);
+            }
+        }
+
+        void sendMessage(String subscriptionId, String destination, String contentType, byte[] body) {
+            Map<String, String> headers = new LinkedHashMap<>();
+            headers.put("destination", destination);
+            headers.put("subscription", subscriptionId);
+            headers.put("message-id", String.valueOf(messageIds.incrementAndGet()));
+            if (contentType != null) {
+                headers.put("content-type", contentType);
+            }
+            try {
+                write("MESSAGE", headers, body);
+            } catch (IOException e) {
+                close();
+            }
+        }
+
+        private synchronized void write(String command, Map<String, String> headers, byte[] body) throws IOException {
+            StringBuilder frame = new StringBuilder(command).append('\n');
+            headers.forEach((name, value) -> frame.append(name).append(':').append(value).append('\n'));
+            frame.append("content-length:").append(body.length).append("\n\n");
+            out.write(frame.toString().getBytes(StandardCharsets.UTF_8));
+            out.write(body);
+            out.write(0);
+            out.flush();
+        }
+
+        private Frame readFrame() throws IOException {
+            int first;
+            do {
+                first = in.read();
+                if (first == -1) {
+                    return null;
+                }
+            } while (first == '\n' || first == '\r'); // 하트비트
+
+            String command = (char) first + readLine();
+            Map<String, String> headers = new LinkedHashMap<>();
+            String line;
+            while (!(line = readLine()).isEmpty()) {
+                int index = line.indexOf(':');
+                // 같은 헤더가 반복되면 첫 번째 값이 유효하다
+                headers.putIfAbsent(line.substring(0, index), line.substring(index + 1));
+            }
+
+            byte[] body;
+            String contentLength = headers.get("content-length");
+            if (contentLength != null) {
+                body = in.readNBytes(Integer.parseInt(contentLength));
+                in.read(); // NUL
+            } else {
+                ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+                int b;
+                while ((b = in.read()) > 0) {
+                    buffer.write(b);
+                }
+                body = buffer.toByteArray();
+            }
+            return new Frame(command, headers, body);
+        }
+
+        private String readLine() throws IOException {
+            ByteArrayOutputStream buffer = new ByteArrayOutputStream();
+            int b;
+            while ((b = in.read()) != '\n') {
+                if (b == -1) {
+                    throw new EOFException();
+                }
+                buffer.write(b);
+            }
+            String line = buffer.toString(StandardCharsets.UTF_8);
+            return line.endsWith("\r") ? line.substring(0, line.length() - 1) : line;
+        }
+
+        void close() {
+            connected = false;
+            subscriptions.clear();
+            connections.remove(this);
+            try {
+                socket.close();
+            } catch (IOException ignored) {
+                // 이미 닫힘
+            }
+        }
+    }
+}
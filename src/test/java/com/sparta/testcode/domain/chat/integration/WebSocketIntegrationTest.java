@@ -1,9 +1,13 @@
 package com.sparta.testcode.domain.chat.integration;
 
 import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.dto.ChatReplayDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import com.sparta.testcode.domain.chat.repository.ChatMessageRepository;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.context.SpringBootTest;
 import org.springframework.boot.test.web.server.LocalServerPort;
 import org.springframework.messaging.converter.MappingJackson2MessageConverter;
@@ -35,6 +39,9 @@ public class WebSocketIntegrationTest {
     @LocalServerPort
     private int port;
 
+    @Autowired
+    private ChatMessageRepository chatMessageRepository;
+
     private String wsUrl;
     private WebSocketStompClient stompClient;
 
@@ -265,4 +272,103 @@ public class WebSocketIntegrationTest {
         // cleanup
         session.disconnect();
     }
+
+    @Test
+    @DisplayName("전송된 채팅 메시지가 비동기로 저장됨")
+    void testChatMessagePersisted() throws Exception {
+        // given
+        String roomId = "test-room-persist";
+
+        StompSession session = stompClient
+                .connectAsync(wsUrl, new StompSessionHandlerAdapter() {})
+                .get(3, TimeUnit.SECONDS);
+
+        // when
+        ChatMessageDto message = new ChatMessageDto();
+        message.setType(ChatMessageDto.MessageType.TALK);
+        message.setRoomId(roomId);
+        message.setSender("저장테스터");
+        message.setMessage("저장될 메시지");
+
+        session.send("/app/chat/message", message);
+
+        // then - 배치 저장 주기를 고려해 최대 3초 대기
+        List<ChatMessage> saved = List.of();
+        long deadline = System.currentTimeMillis() + 3000;
+        while (saved.isEmpty() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(100);
+            saved = chatMessageRepository.findByRoomId(roomId);
+        }
+
+        assertThat(saved).hasSize(1);
+        assertThat(saved.get(0).getSender()).isEqualTo("저장테스터");
+        assertThat(saved.get(0).getMessage()).isEqualTo("저장될 메시지");
+
+        // cleanup
+        session.disconnect();
+    }
+
+    @Test
+    @DisplayName("재연결 시 마지막 seq 이후 메시지를 다시 받음")
+    void testReplayAfterReconnect() throws Exception {
+        // given
+        String roomId = "test-room-replay";
+        BlockingQueue<ChatMessageDto> messageQueue = new LinkedBlockingQueue<>();
+
+        StompSession session = stompClient
+                .connectAsync(wsUrl, new StompSessionHandlerAdapter() {})
+                .get(3, TimeUnit.SECONDS);
+
+        session.subscribe("/topic/chat/room/" + roomId, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatMessageDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                messageQueue.offer((ChatMessageDto) payload);
+            }
+        });
+
+        for (String text : List.of("첫 번째", "두 번째", "세 번째")) {
+            ChatMessageDto message = new ChatMessageDto(ChatMessageDto.MessageType.TALK, roomId, "재연결테스터", text);
+            session.send("/app/chat/message", message);
+            assertThat(messageQueue.poll(3, TimeUnit.SECONDS)).isNotNull();
+        }
+        session.disconnect();
+
+        // when - 첫 번째 메시지까지만 받은 클라이언트가 재연결
+        BlockingQueue<ChatReplayDto> replayQueue = new LinkedBlockingQueue<>();
+        StompSession reconnected = stompClient
+                .connectAsync(wsUrl, new StompSessionHandlerAdapter() {})
+                .get(3, TimeUnit.SECONDS);
+        ChatReplayDto probe = requestReplay(reconnected, roomId, 0, 0, replayQueue);
+        ChatReplayDto replay = requestReplay(reconnected, roomId, probe.getEpoch(), probe.getLastSeq() - 2, replayQueue);
+
+        // then
+        assertThat(probe.isReset()).isTrue();
+        assertThat(replay).isNotNull();
+        assertThat(replay.isReset()).isFalse();
+        assertThat(replay.getMessages()).extracting(ChatMessageDto::getMessage).containsExactly("두 번째", "세 번째");
+
+        // cleanup
+        reconnected.disconnect();
+    }
+
+    private ChatReplayDto requestReplay(StompSession session, String roomId, long epoch, long lastSeq,
+                                        BlockingQueue<ChatReplayDto> replayQueue) throws InterruptedException {
+        session.subscribe("/app/chat/room/" + roomId + "/replay/" + epoch + "/" + lastSeq, new StompFrameHandler() {
+            @Override
+            public Type getPayloadType(StompHeaders headers) {
+                return ChatReplayDto.class;
+            }
+
+            @Override
+            public void handleFrame(StompHeaders headers, Object payload) {
+                replayQueue.offer((ChatReplayDto) payload);
+            }
+        });
+        return replayQueue.poll(3, TimeUnit.SECONDS);
+    }
 }
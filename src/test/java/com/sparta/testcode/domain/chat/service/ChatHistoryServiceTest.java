@@ -0,0 +1,198 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.dto.ChatMessagePageDto;
+import com.sparta.testcode.domain.chat.dto.ChatMessageResponseDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import com.sparta.testcode.domain.chat.repository.ChatMessageRepository;
+import com.sparta.testcode.global.config.ChatBrokerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+
+@ExtendWith(MockitoExtension.class)
+class ChatHistoryServiceTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    @Mock
+    private ChatMessageRepository chatMessageRepository;
+
+    private ChatHistoryService chatHistoryService;
+
+    @BeforeEach
+    void setUp() {
+        chatHistoryService = new ChatHistoryService(chatMessageRepository, ChatBrokerProperties.Mode.SIMPLE, 3, 100, Duration.ofMinutes(10));
+    }
+
+    @Test
+    void findMessages_FromTail() {
+        // given
+        chatHistoryService.append(createMessage(1L, "메시지1"));
+        chatHistoryService.append(createMessage(2L, "메시지2"));
+        chatHistoryService.append(createMessage(3L, "메시지3"));
+        chatHistoryService.append(createMessage(4L, "메시지4"));
+
+        // when
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 2);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(3L, 4L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextBefore()).isEqualTo(3L);
+        verifyNoInteractions(chatMessageRepository);
+    }
+
+    @Test
+    void findMessages_OlderPageFromRepository() {
+        // given
+        chatHistoryService.append(createMessage(3L, "메시지3"));
+        chatHistoryService.append(createMessage(4L, "메시지4"));
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(3L), any(Pageable.class)))
+                .willReturn(List.of(createMessage(2L, "메시지2"), createMessage(1L, "메시지1")));
+
+        // when
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 3);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(2L, 3L, 4L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextBefore()).isEqualTo(2L);
+    }
+
+    @Test
+    void findMessages_CompleteTailSkipsRepository() {
+        // given
+        chatHistoryService.append(createMessage(1L, "메시지1"));
+        chatHistoryService.append(createMessage(2L, "메시지2"));
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(1L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        chatHistoryService.findMessages(ROOM_ID, null, 10);
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 10);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isFalse();
+        assertThat(page.getNextBefore()).isNull();
+        verify(chatMessageRepository, times(1)).findBefore(eq(ROOM_ID), eq(1L), any(Pageable.class));
+    }
+
+    @Test
+    void findMessages_OutOfOrderAppendKeepsIdOrder() {
+        // given
+        chatHistoryService.append(createMessage(1L, "메시지1"));
+        chatHistoryService.append(createMessage(3L, "메시지3"));
+        // 2 번이 id 를 먼저 받았지만 3 번보다 늦게 tail 에 들어온다
+        chatHistoryService.append(createMessage(2L, "메시지2"));
+        chatHistoryService.append(createMessage(4L, "메시지4"));
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(createMessage(1L, "메시지1")));
+
+        // when
+        ChatMessagePageDto first = chatHistoryService.findMessages(ROOM_ID, null, 2);
+        ChatMessagePageDto second = chatHistoryService.findMessages(ROOM_ID, first.getNextBefore(), 2);
+
+        // then
+        assertThat(first.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(3L, 4L);
+        assertThat(first.getNextBefore()).isEqualTo(3L);
+        assertThat(second.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(second.isHasNext()).isFalse();
+    }
+
+    @Test
+    void findMessages_EvictionDuringReadKeepsTailIncomplete() {
+        // given
+        chatHistoryService.append(createMessage(1L, "메시지1"));
+        chatHistoryService.append(createMessage(2L, "메시지2"));
+        // 저장소를 읽는 사이 새 메시지가 들어와 1 번이 tail 에서 밀려난다
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(1L), any(Pageable.class))).willAnswer(invocation -> {
+            chatHistoryService.append(createMessage(3L, "메시지3"));
+            chatHistoryService.append(createMessage(4L, "메시지4"));
+            return List.of();
+        });
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(2L), any(Pageable.class)))
+                .willReturn(List.of(createMessage(1L, "메시지1")));
+
+        // when
+        chatHistoryService.findMessages(ROOM_ID, null, 10);
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 10);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(1L, 2L, 3L, 4L);
+        verify(chatMessageRepository).findBefore(eq(ROOM_ID), eq(2L), any(Pageable.class));
+    }
+
+    @Test
+    void findMessages_UnknownRoomFromRepository() {
+        // given
+        given(chatMessageRepository.findLatest(eq(ROOM_ID), any(Pageable.class)))
+                .willReturn(List.of(createMessage(2L, "메시지2"), createMessage(1L, "메시지1")));
+
+        // when
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 10);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(1L, 2L);
+        assertThat(page.isHasNext()).isFalse();
+    }
+
+    @Test
+    void findMessages_RelayModeAlwaysFromRepository() {
+        // given
+        chatHistoryService = new ChatHistoryService(chatMessageRepository, ChatBrokerProperties.Mode.RELAY, 3, 100, Duration.ofMinutes(10));
+        chatHistoryService.append(createMessage(1L, "메시지1"));
+        chatHistoryService.append(createMessage(3L, "메시지3"));
+        // 2 번은 다른 노드로 들어와 이 노드의 tail 에는 없다
+        given(chatMessageRepository.findLatest(eq(ROOM_ID), any(Pageable.class)))
+                .willReturn(List.of(createMessage(3L, "메시지3"), createMessage(2L, "메시지2"), createMessage(1L, "메시지1")));
+
+        // when
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 2);
+
+        // then
+        assertThat(page.getMessages()).extracting(ChatMessageResponseDto::getId).containsExactly(2L, 3L);
+        assertThat(page.isHasNext()).isTrue();
+        assertThat(page.getNextBefore()).isEqualTo(2L);
+    }
+
+    @Test
+    void findMessages_IncludesSequence() {
+        // given
+        ChatMessageDto dto = new ChatMessageDto(ChatMessageDto.MessageType.TALK, ROOM_ID, "작성자", "메시지1");
+        dto.setSeq(7L);
+        dto.setEpoch(100L);
+        chatHistoryService.append(ChatMessage.create(1L, dto, LocalDateTime.now()));
+        given(chatMessageRepository.findBefore(eq(ROOM_ID), eq(1L), any(Pageable.class))).willReturn(List.of());
+
+        // when
+        ChatMessagePageDto page = chatHistoryService.findMessages(ROOM_ID, null, 10);
+
+        // then
+        assertThat(page.getMessages()).singleElement()
+                .satisfies(message -> {
+                    assertThat(message.getSeq()).isEqualTo(7L);
+                    assertThat(message.getEpoch()).isEqualTo(100L);
+                });
+    }
+
+    private ChatMessage createMessage(Long id, String text) {
+        ChatMessageDto dto = new ChatMessageDto(ChatMessageDto.MessageType.TALK, ROOM_ID, "작성자", text);
+        return ChatMessage.create(id, dto, LocalDateTime.now());
+    }
+}
@@ -0,0 +1,108 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.dataformat.cbor.databind.CBORMapper;
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.global.config.ChatFanoutProperties;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.SimpMessageHeaderAccessor;
+import org.springframework.messaging.simp.SimpMessageSendingOperations;
+import org.springframework.util.MimeTypeUtils;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class ChatMessageBatcherTest {
+
+    private static final TypeReference<List<ChatMessageDto>> BATCH_TYPE = new TypeReference<>() {
+    };
+
+    private final SimpMessageSendingOperations messagingTemplate = mock(SimpMessageSendingOperations.class);
+    private ChatMessageBatcher chatMessageBatcher;
+
+    @AfterEach
+    void tearDown() {
+        chatMessageBatcher.destroy();
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void coalescesMessagesWithinWindow() throws Exception {
+        // given
+        chatMessageBatcher = createBatcher(false);
+
+        // when
+        for (int i = 1; i <= 3; i++) {
+            chatMessageBatcher.enqueue(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", "작성자", "메시지" + i));
+        }
+
+        // then
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, timeout(1000)).send(eq("/topic/chat/room/room-1/batch"), captor.capture());
+        List<ChatMessageDto> batch = new ObjectMapper().readValue(captor.getValue().getPayload(), BATCH_TYPE);
+        assertThat(batch).extracting(ChatMessageDto::getMessage).containsExactly("메시지1", "메시지2", "메시지3");
+        assertThat(SimpMessageHeaderAccessor.getContentType(captor.getValue().getHeaders())).isEqualTo(MimeTypeUtils.APPLICATION_JSON);
+    }
+
+    @Test
+    @SuppressWarnings("unchecked")
+    void sendsCborBatch() throws Exception {
+        // given
+        chatMessageBatcher = createBatcher(true);
+
+        // when
+        chatMessageBatcher.enqueue(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", "작성자", "메시지"));
+
+        // then
+        ArgumentCaptor<Message<byte[]>> captor = ArgumentCaptor.forClass(Message.class);
+        verify(messagingTemplate, timeout(1000)).send(eq("/topic/chat/room/room-1/batch/cbor"), captor.capture());
+        List<ChatMessageDto> batch = new CBORMapper().readValue(captor.getValue().getPayload(), BATCH_TYPE);
+        assertThat(batch).extracting(ChatMessageDto::getMessage).containsExactly("메시지");
+        assertThat(SimpMessageHeaderAccessor.getContentType(captor.getValue().getHeaders())).isEqualTo(MimeTypeUtils.APPLICATION_OCTET_STREAM);
+    }
+
+    @Test
+    void slowRoomDoesNotDelayOtherRooms() throws Exception {
+        // given
+        chatMessageBatcher = createBatcher(false);
+        CountDownLatch release = new CountDownLatch(1);
+        willAnswer(invocation -> release.await(5, TimeUnit.SECONDS))
+                .given(messagingTemplate).send(eq("/topic/chat/room/room-1/batch"), any());
+
+        // when
+        chatMessageBatcher.enqueue(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", "작성자", "메시지"));
+        Thread.sleep(100);
+        chatMessageBatcher.enqueue(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-2", "작성자", "메시지"));
+
+        // then
+        try {
+            verify(messagingTemplate, timeout(1000)).send(eq("/topic/chat/room/room-2/batch"), any());
+        } finally {
+            release.countDown();
+        }
+    }
+
+    private ChatMessageBatcher createBatcher(boolean cbor) {
+        ChatFanoutProperties properties = new ChatFanoutProperties();
+        properties.setCoalesce(true);
+        properties.setWindow(Duration.ofMillis(50));
+        properties.setCbor(cbor);
+        properties.setPoolSize(2);
+        return new ChatMessageBatcher(messagingTemplate, new ObjectMapper(), properties, new SimpleMeterRegistry());
+    }
+}
@@ -0,0 +1,61 @@
+package com.sparta.testcode.domain.chat.service;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class ChatMessageIdGeneratorTest {
+
+    @Test
+    void nextId_Increasing() {
+        // given
+        ChatMessageIdGenerator idGenerator = new ChatMessageIdGenerator(1);
+
+        // when
+        long previous = idGenerator.nextId();
+        for (int i = 0; i < 10_000; i++) {
+            long next = idGenerator.nextId();
+
+            // then
+            assertThat(next).isGreaterThan(previous);
+            assertThat((next >>> 12) & 0x3FF).isEqualTo(1);
+            previous = next;
+        }
+    }
+
+    @Test
+    void nextId_UniqueUnderContention() throws Exception {
+        // given
+        ChatMessageIdGenerator idGenerator = new ChatMessageIdGenerator(0);
+        Set<Long> ids = ConcurrentHashMap.newKeySet();
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+
+        // when
+        for (int i = 0; i < 8; i++) {
+            executor.execute(() -> {
+                for (int j = 0; j < 10_000; j++) {
+                    ids.add(idGenerator.nextId());
+                }
+            });
+        }
+        executor.shutdown();
+        executor.awaitTermination(10, TimeUnit.SECONDS);
+
+        // then
+        assertThat(ids).hasSize(80_000);
+    }
+
+    @Test
+    void invalidNodeId() {
+        // when & then
+        assertThatThrownBy(() -> new ChatMessageIdGenerator(1024))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
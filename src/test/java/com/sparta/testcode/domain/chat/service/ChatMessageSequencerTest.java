@@ -0,0 +1,107 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.dto.ChatReplayDto;
+import com.sparta.testcode.global.config.ChatBrokerProperties;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatMessageSequencerTest {
+
+    private static final String ROOM_ID = "room-1";
+
+    private ChatMessageSequencer chatMessageSequencer;
+
+    @BeforeEach
+    void setUp() {
+        chatMessageSequencer = new ChatMessageSequencer(ChatBrokerProperties.Mode.SIMPLE, 4, 100, Duration.ofHours(1));
+    }
+
+    @Test
+    void assign() {
+        // when
+        ChatMessageDto first = send(ROOM_ID, "1");
+        ChatMessageDto second = send(ROOM_ID, "2");
+        ChatMessageDto otherRoom = send("room-2", "1");
+
+        // then
+        assertThat(first.getSeq()).isEqualTo(1L);
+        assertThat(second.getSeq()).isEqualTo(2L);
+        assertThat(second.getEpoch()).isEqualTo(first.getEpoch());
+        assertThat(second.getTimestamp()).isNotNull();
+        assertThat(otherRoom.getSeq()).isEqualTo(1L);
+        assertThat(otherRoom.getEpoch()).isNotEqualTo(first.getEpoch());
+    }
+
+    @Test
+    void replay() {
+        // given
+        ChatMessageDto first = send(ROOM_ID, "1");
+        send(ROOM_ID, "2");
+        send(ROOM_ID, "3");
+
+        // when
+        ChatReplayDto replay = chatMessageSequencer.replay(ROOM_ID, first.getEpoch(), 1);
+
+        // then
+        assertThat(replay.isReset()).isFalse();
+        assertThat(replay.getLastSeq()).isEqualTo(3L);
+        assertThat(replay.getMessages()).extracting(ChatMessageDto::getMessage).containsExactly("2", "3");
+    }
+
+    @Test
+    void replay_GapLargerThanBuffer() {
+        // given
+        ChatMessageDto first = send(ROOM_ID, "1");
+        for (int i = 2; i <= 6; i++) {
+            send(ROOM_ID, String.valueOf(i));
+        }
+
+        // when
+        ChatReplayDto replay = chatMessageSequencer.replay(ROOM_ID, first.getEpoch(), 1);
+
+        // then
+        assertThat(replay.isReset()).isTrue();
+        assertThat(replay.getMessages()).isEmpty();
+    }
+
+    @Test
+    void replay_EpochChanged() {
+        // given
+        ChatMessageDto first = send(ROOM_ID, "1");
+
+        // when
+        ChatReplayDto replay = chatMessageSequencer.replay(ROOM_ID, first.getEpoch() - 1, 0);
+
+        // then
+        assertThat(replay.isReset()).isTrue();
+        assertThat(replay.getEpoch()).isEqualTo(first.getEpoch());
+    }
+
+    @Test
+    void relayModeDisablesSequencing() {
+        // given
+        chatMessageSequencer = new ChatMessageSequencer(ChatBrokerProperties.Mode.RELAY, 4, 100, Duration.ofHours(1));
+
+        // when
+        ChatMessageDto message = send(ROOM_ID, "1");
+        ChatReplayDto replay = chatMessageSequencer.replay(ROOM_ID, 0, 0);
+
+        // then
+        assertThat(message.getSeq()).isNull();
+        assertThat(message.getEpoch()).isNull();
+        assertThat(message.getTimestamp()).isNotNull();
+        assertThat(replay.isReset()).isTrue();
+        assertThat(replay.getMessages()).isEmpty();
+    }
+
+    private ChatMessageDto send(String roomId, String text) {
+        ChatMessageDto message = new ChatMessageDto(ChatMessageDto.MessageType.TALK, roomId, "작성자", text);
+        chatMessageSequencer.assign(message);
+        return message;
+    }
+}
@@ -0,0 +1,60 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatMessageServiceTest {
+
+    @Mock
+    private ChatMessageIdGenerator idGenerator;
+
+    @Mock
+    private ChatMessageWriter chatMessageWriter;
+
+    @Mock
+    private ChatHistoryService chatHistoryService;
+
+    @InjectMocks
+    private ChatMessageService chatMessageService;
+
+    @Test
+    void record_TruncatesLongMessage() {
+        // given
+        given(idGenerator.nextId()).willReturn(1L);
+        String text = "가".repeat(ChatMessage.MAX_MESSAGE_LENGTH + 10);
+
+        // when
+        chatMessageService.record(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", "작성자", text));
+
+        // then
+        ArgumentCaptor<ChatMessage> captor = ArgumentCaptor.forClass(ChatMessage.class);
+        verify(chatMessageWriter).append(captor.capture());
+        assertThat(captor.getValue().getMessage()).hasSize(ChatMessage.MAX_MESSAGE_LENGTH);
+    }
+
+    @Test
+    void record_SkipsLongSender() {
+        // given
+        String sender = "a".repeat(ChatMessage.MAX_ID_LENGTH + 1);
+
+        // when
+        chatMessageService.record(new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", sender, "메시지"));
+
+        // then
+        verify(chatMessageWriter, never()).append(any());
+        verify(chatHistoryService, never()).append(any());
+    }
+}
@@ -0,0 +1,71 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatMessageDto;
+import com.sparta.testcode.domain.chat.entity.ChatMessage;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 본문 컬럼을 짧게 만든 H2 테이블로 배치 INSERT 실패 시 한 건씩 다시 저장하는지 확인한다.
+ */
+class ChatMessageWriterTest {
+
+    private JdbcTemplate jdbcTemplate;
+    private SimpleMeterRegistry meterRegistry;
+    private ChatMessageWriter chatMessageWriter;
+
+    @BeforeEach
+    void setUp() {
+        jdbcTemplate = new JdbcTemplate(new DriverManagerDataSource("jdbc:h2:mem:chat_writer;MODE=MySQL;DB_CLOSE_DELAY=-1", "sa", ""));
+        jdbcTemplate.execute("drop table if exists chat_message");
+        jdbcTemplate.execute("create table chat_message (id bigint primary key, room_id varchar(255) not null, sender varchar(255) not null, "
+                + "type varchar(20) not null, message varchar(10), created_at timestamp not null, seq bigint, epoch bigint)");
+        meterRegistry = new SimpleMeterRegistry();
+        chatMessageWriter = new ChatMessageWriter(jdbcTemplate, meterRegistry, 100, 100, Duration.ofMillis(10));
+    }
+
+    @Test
+    void flush() {
+        // given
+        List<ChatMessage> batch = new ArrayList<>(List.of(createMessage(1L, "메시지1"), createMessage(2L, "메시지2")));
+
+        // when
+        chatMessageWriter.flush(batch);
+
+        // then
+        assertThat(jdbcTemplate.queryForObject("select count(*) from chat_message", Long.class)).isEqualTo(2L);
+        assertThat(meterRegistry.counter("chat.persistence.written").count()).isEqualTo(2.0);
+    }
+
+    @Test
+    void flush_FallsBackToSingleInserts() {
+        // given
+        List<ChatMessage> batch = new ArrayList<>(List.of(
+                createMessage(1L, "메시지1"),
+                createMessage(2L, "컬럼 길이를 넘는 메시지입니다"),
+                createMessage(3L, "메시지3")));
+
+        // when
+        chatMessageWriter.flush(batch);
+
+        // then
+        assertThat(jdbcTemplate.queryForList("select id from chat_message order by id", Long.class)).containsExactly(1L, 3L);
+        assertThat(meterRegistry.counter("chat.persistence.written").count()).isEqualTo(2.0);
+        assertThat(meterRegistry.counter("chat.persistence.failed").count()).isEqualTo(1.0);
+    }
+
+    private ChatMessage createMessage(Long id, String text) {
+        ChatMessageDto dto = new ChatMessageDto(ChatMessageDto.MessageType.TALK, "room-1", "작성자", text);
+        return ChatMessage.create(id, dto, LocalDateTime.now());
+    }
+}
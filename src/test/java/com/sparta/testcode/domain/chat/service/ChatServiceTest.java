@@ -0,0 +1,106 @@
+package com.sparta.testcode.domain.chat.service;
+
+import com.sparta.testcode.domain.chat.dto.ChatRoomDto;
+import com.sparta.testcode.domain.chat.dto.ChatRoomPageDto;
+import com.sparta.testcode.domain.chat.entity.ChatRoom;
+import com.sparta.testcode.domain.chat.repository.ChatRoomRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class ChatServiceTest {
+
+    @Mock
+    private ChatRoomRepository chatRoomRepository;
+
+    @Test
+    void createRoom_Concurrently() throws Exception {
+        // given
+        ChatService chatService = new ChatService(chatRoomRepository, false);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        List<Future<?>> futures = new ArrayList<>();
+
+        // when
+        for (int i = 0; i < 1000; i++) {
+            int index = i;
+            futures.add(executor.submit(() -> {
+                ChatRoomDto room = chatService.createRoom("방" + index);
+                assertThat(chatService.findRoomById(room.getRoomId())).isSameAs(room);
+                chatService.findAllRoom();
+            }));
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+        executor.shutdown();
+
+        // then
+        assertThat(chatService.findAllRoom()).hasSize(1000);
+        verify(chatRoomRepository, never()).save(any(ChatRoom.class));
+    }
+
+    @Test
+    void findRooms_Paging() {
+        // given
+        ChatService chatService = new ChatService(chatRoomRepository, false);
+        ChatRoomDto first = chatService.createRoom("방1");
+        ChatRoomDto second = chatService.createRoom("방2");
+        ChatRoomDto third = chatService.createRoom("방3");
+
+        // when
+        ChatRoomPageDto firstPage = chatService.findRooms(null, 2);
+        ChatRoomPageDto secondPage = chatService.findRooms(firstPage.getNextAfter(), 2);
+
+        // then
+        assertThat(firstPage.getRooms()).containsExactly(first, second);
+        assertThat(firstPage.isHasNext()).isTrue();
+        assertThat(firstPage.getNextAfter()).isEqualTo(second.getRoomId());
+        assertThat(secondPage.getRooms()).containsExactly(third);
+        assertThat(secondPage.isHasNext()).isFalse();
+        assertThat(secondPage.getNextAfter()).isNull();
+    }
+
+    @Test
+    void findRooms_UnknownAfter() {
+        // given
+        ChatService chatService = new ChatService(chatRoomRepository, false);
+
+        // when & then
+        assertThatThrownBy(() -> chatService.findRooms("없는방", 10))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    void loadRooms_Persistent() {
+        // given
+        given(chatRoomRepository.findAllByOrderByCreatedAtAscRoomIdAsc()).willReturn(List.of(
+                new ChatRoom("room-1", "방1", LocalDateTime.now().minusMinutes(1)),
+                new ChatRoom("room-2", "방2", LocalDateTime.now())));
+        ChatService chatService = new ChatService(chatRoomRepository, true);
+
+        // when
+        chatService.loadRooms();
+        ChatRoomDto created = chatService.createRoom("방3");
+
+        // then
+        assertThat(chatService.findAllRoom()).extracting(ChatRoomDto::getRoomId)
+                .containsExactly("room-1", "room-2", created.getRoomId());
+        verify(chatRoomRepository).save(any(ChatRoom.class));
+    }
+}
@@ -0,0 +1,101 @@
+package com.sparta.testcode.domain.chat.service;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.messaging.Message;
+import org.springframework.messaging.simp.stomp.StompCommand;
+import org.springframework.messaging.simp.stomp.StompHeaderAccessor;
+import org.springframework.messaging.support.MessageBuilder;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.messaging.SessionConnectedEvent;
+import org.springframework.web.socket.messaging.SessionDisconnectEvent;
+import org.springframework.web.socket.messaging.SessionSubscribeEvent;
+import org.springframework.web.socket.messaging.SessionUnsubscribeEvent;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class ChatSubscriptionMetricsTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private ChatSubscriptionMetrics chatSubscriptionMetrics;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        chatSubscriptionMetrics = new ChatSubscriptionMetrics(meterRegistry, 1000);
+    }
+
+    @Test
+    void subscribeAndUnsubscribe() {
+        // given
+        chatSubscriptionMetrics.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "s1", null, null)));
+        chatSubscriptionMetrics.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "s2", null, null)));
+
+        // when
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/room-1")));
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s2", "sub-0", "/topic/chat/room/room-1")));
+        chatSubscriptionMetrics.onUnsubscribe(new SessionUnsubscribeEvent(this, message(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+
+        // then
+        assertThat(chatSubscriptionMetrics.subscriberCount("room-1")).isEqualTo(1);
+        assertThat(meterRegistry.get("chat.room.subscribers").tag("room", "room-1").gauge().value()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("chat.websocket.sessions").gauge().value()).isEqualTo(2.0);
+    }
+
+    @Test
+    void disconnectRemovesRoomGauge() {
+        // given
+        chatSubscriptionMetrics.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "s1", null, null)));
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/room-1")));
+
+        // when
+        Message<byte[]> disconnect = message(StompCommand.DISCONNECT, "s1", null, null);
+        chatSubscriptionMetrics.onDisconnect(new SessionDisconnectEvent(this, disconnect, "s1", CloseStatus.NORMAL));
+
+        // then
+        assertThat(chatSubscriptionMetrics.subscriberCount("room-1")).isZero();
+        assertThat(meterRegistry.find("chat.room.subscribers").gauges()).isEmpty();
+        assertThat(meterRegistry.get("chat.websocket.sessions").gauge().value()).isZero();
+    }
+
+    @Test
+    void batchSubscriptionCountsTowardsRoom() {
+        // when
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/room-1/batch")));
+
+        // then
+        assertThat(chatSubscriptionMetrics.subscriberCount("room-1")).isEqualTo(1);
+    }
+
+    @Test
+    void sameSessionCountsOncePerRoom() {
+        // given
+        chatSubscriptionMetrics.onConnected(new SessionConnectedEvent(this, message(StompCommand.CONNECTED, "s1", null, null)));
+
+        // when
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s1", "sub-0", "/topic/chat/room/room-1")));
+        chatSubscriptionMetrics.onSubscribe(new SessionSubscribeEvent(this, message(StompCommand.SUBSCRIBE, "s1", "sub-1", "/topic/chat/room/room-1/batch")));
+        int bothSubscribed = chatSubscriptionMetrics.subscriberCount("room-1");
+        chatSubscriptionMetrics.onUnsubscribe(new SessionUnsubscribeEvent(this, message(StompCommand.UNSUBSCRIBE, "s1", "sub-1", null)));
+        int legacyOnly = chatSubscriptionMetrics.subscriberCount("room-1");
+        chatSubscriptionMetrics.onUnsubscribe(new SessionUnsubscribeEvent(this, message(StompCommand.UNSUBSCRIBE, "s1", "sub-0", null)));
+
+        // then
+        assertThat(bothSubscribed).isEqualTo(1);
+        assertThat(legacyOnly).isEqualTo(1);
+        assertThat(chatSubscriptionMetrics.subscriberCount("room-1")).isZero();
+    }
+
+    private Message<byte[]> message(StompCommand command, String sessionId, String subscriptionId, String destination) {
+        StompHeaderAccessor accessor = StompHeaderAccessor.create(command);
+        accessor.setSessionId(sessionId);
+        if (subscriptionId != null) {
+            accessor.setSubscriptionId(subscriptionId);
+        }
+        if (destination != null) {
+            accessor.setDestination(destination);
+        }
+        return MessageBuilder.createMessage(new byte[0], accessor.getMessageHeaders());
+    }
+}
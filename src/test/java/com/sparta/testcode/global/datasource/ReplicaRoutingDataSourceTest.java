@@ -0,0 +1,167 @@
+package com.sparta.testcode.global.datasource;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DelegatingDataSource;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.sql.Connection;
+import java.sql.SQLException;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+/**
+ * 서로 다른 H2 인메모리 DB 두 개를 primary / replica 로 두고 라우팅을 확인한다.
+ */
+class ReplicaRoutingDataSourceTest {
+
+    private ReplicaRoutingDataSource routingDataSource;
+    private JdbcTemplate jdbcTemplate;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        DataSource primary = createDatabase("primary");
+        DataSource replica = createDatabase("replica");
+        setUpRouting(primary, List.of(replica));
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        SecurityContextHolder.clearContext();
+        routingDataSource.destroy();
+    }
+
+    @Test
+    void readOnlyTransactionGoesToReplica() {
+        // when
+        String read = readOnlyTransaction.execute(status -> currentNode());
+        String written = writeTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(written).isEqualTo("primary");
+    }
+
+    @Test
+    void fallsBackToPrimaryWhenReplicaIsDown() throws Exception {
+        // given
+        routingDataSource.destroy();
+        DataSource downReplica = new DriverManagerDataSource("jdbc:h2:mem:missing;IFEXISTS=TRUE", "sa", "");
+        setUpRouting(createDatabase("primary"), List.of(downReplica));
+
+        // when
+        routingDataSource.checkReplicas();
+        String read = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(read).isEqualTo("primary");
+    }
+
+    @Test
+    void retriesOnPrimaryWhenReplicaConnectionFails() throws Exception {
+        // given
+        routingDataSource.destroy();
+        FlakyDataSource replica = new FlakyDataSource(createDatabase("replica"));
+        setUpRouting(createDatabase("primary"), List.of(replica));
+        replica.failing = true;
+
+        // when
+        String first = readOnlyTransaction.execute(status -> currentNode());
+        replica.failing = false;
+        String second = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(first).isEqualTo("primary");
+        // 다음 상태 검사 전까지는 DOWN 으로 남는다
+        assertThat(second).isEqualTo("primary");
+        routingDataSource.checkReplicas();
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void primaryReadIgnoresReadOnly() {
+        // when
+        String read = PrimaryRead.execute(() -> readOnlyTransaction.execute(status -> currentNode()));
+
+        // then
+        assertThat(read).isEqualTo("primary");
+        assertThat(readOnlyTransaction.execute(status -> currentNode())).isEqualTo("replica");
+    }
+
+    @Test
+    void readsOwnWritesFromPrimary() {
+        // given
+        authenticate("writer");
+        writeTransaction.executeWithoutResult(status ->
+                jdbcTemplate.update("update node set name = name where 1 = 0"));
+
+        // when
+        String writerRead = readOnlyTransaction.execute(status -> currentNode());
+        authenticate("other");
+        String otherRead = readOnlyTransaction.execute(status -> currentNode());
+
+        // then
+        assertThat(writerRead).isEqualTo("primary");
+        assertThat(otherRead).isEqualTo("replica");
+    }
+
+    private void setUpRouting(DataSource primary, List<DataSource> replicas) {
+        routingDataSource = new ReplicaRoutingDataSource(primary, replicas,
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), Duration.ofHours(1));
+        routingDataSource.afterPropertiesSet();
+
+        DataSource dataSource = new LazyConnectionDataSourceProxy(routingDataSource);
+        jdbcTemplate = new JdbcTemplate(dataSource);
+        DataSourceTransactionManager transactionManager = new DataSourceTransactionManager(dataSource);
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    private DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        JdbcTemplate template = new JdbcTemplate(dataSource);
+        template.execute("create table if not exists node (name varchar(20))");
+        template.update("delete from node");
+        template.update("insert into node (name) values (?)", name);
+        return dataSource;
+    }
+
+    private String currentNode() {
+        return jdbcTemplate.queryForObject("select name from node", String.class);
+    }
+
+    private void authenticate(String username) {
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(username, null, Collections.emptyList()));
+    }
+
+    private static class FlakyDataSource extends DelegatingDataSource {
+        private volatile boolean failing;
+
+        private FlakyDataSource(DataSource target) {
+            super(target);
+        }
+
+        @Override
+        public Connection getConnection() throws SQLException {
+            if (failing) {
+                throw new SQLException("replica unavailable");
+            }
+            return super.getConnection();
+        }
+    }
+}
@@ -0,0 +1,111 @@
+package com.sparta.testcode.global.datasource;
+
+import com.sparta.testcode.domain.auth.entity.RefreshToken;
+import com.sparta.testcode.global.config.DataSourceRoutingConfig;
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.jdbc.datasource.LazyConnectionDataSourceProxy;
+import org.springframework.orm.jpa.JpaTransactionManager;
+import org.springframework.orm.jpa.LocalContainerEntityManagerFactoryBean;
+import org.springframework.orm.jpa.SharedEntityManagerCreator;
+import org.springframework.orm.jpa.persistenceunit.PersistenceManagedTypes;
+import org.springframework.orm.jpa.vendor.HibernateJpaVendorAdapter;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import javax.sql.DataSource;
+import java.time.Duration;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+/**
+ * 애플리케이션과 같은 연결 처리 방식(DELAYED_ACQUISITION_AND_HOLD)의 Hibernate 로 라우팅을 확인한다.
+ * 로그인처럼 한 요청 안에서 읽기 전용 조회 뒤에 리프레시 토큰을 저장하는 흐름을 흉내 낸다.
+ */
+class ReplicaRoutingJpaTest {
+
+    private DataSource primary;
+    private DataSource replica;
+    private ReplicaRoutingDataSource routingDataSource;
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory;
+    private EntityManager entityManager;
+    private TransactionTemplate writeTransaction;
+    private TransactionTemplate readOnlyTransaction;
+
+    @BeforeEach
+    void setUp() {
+        primary = createDatabase("primary");
+        replica = createDatabase("replica");
+        routingDataSource = new ReplicaRoutingDataSource(primary, List.of(replica),
+                new ReadYourWritesTracker(Duration.ofMinutes(1)), Duration.ofHours(1));
+        routingDataSource.afterPropertiesSet();
+
+        entityManagerFactory = entityManagerFactory(new LazyConnectionDataSourceProxy(routingDataSource), "none");
+        entityManager = SharedEntityManagerCreator.createSharedEntityManager(entityManagerFactory.getObject());
+        JpaTransactionManager transactionManager = new JpaTransactionManager(entityManagerFactory.getObject());
+        writeTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction = new TransactionTemplate(transactionManager);
+        readOnlyTransaction.setReadOnly(true);
+    }
+
+    @AfterEach
+    void tearDown() throws Exception {
+        entityManagerFactory.destroy();
+        routingDataSource.destroy();
+    }
+
+    @Test
+    void readThenWriteInOneRequestWritesToPrimary() {
+        // when
+        String read = readOnlyTransaction.execute(status -> entityManager
+                .createQuery("select t.username from RefreshToken t", String.class)
+                .getSingleResult());
+        writeTransaction.executeWithoutResult(status -> entityManager.persist(
+                new RefreshToken("written-hash", "family", "writer", LocalDateTime.now().plusDays(1))));
+
+        // then
+        assertThat(read).isEqualTo("replica");
+        assertThat(usernames(primary)).containsExactlyInAnyOrder("primary", "writer");
+        assertThat(usernames(replica)).containsExactly("replica");
+    }
+
+    @Test
+    void routingRejectsOpenInView() {
+        // when & then
+        assertThatThrownBy(() -> new DataSourceRoutingConfig(true))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private DataSource createDatabase(String name) {
+        DriverManagerDataSource dataSource = new DriverManagerDataSource("jdbc:h2:mem:routing_jpa_" + name + ";DB_CLOSE_DELAY=-1", "sa", "");
+        LocalContainerEntityManagerFactoryBean schema = entityManagerFactory(dataSource, "create");
+        schema.destroy();
+        new JdbcTemplate(dataSource).update(
+                "insert into refresh_token (token_hash, family_id, username, expires_at) values (?, ?, ?, ?)",
+                name + "-hash", "family", name, LocalDateTime.now().plusDays(1));
+        return dataSource;
+    }
+
+    private LocalContainerEntityManagerFactoryBean entityManagerFactory(DataSource dataSource, String ddlAuto) {
+        LocalContainerEntityManagerFactoryBean factory = new LocalContainerEntityManagerFactoryBean();
+        factory.setDataSource(dataSource);
+        factory.setManagedTypes(PersistenceManagedTypes.of(RefreshToken.class.getName()));
+        factory.setJpaVendorAdapter(new HibernateJpaVendorAdapter());
+        factory.setJpaPropertyMap(Map.of(
+                "hibernate.hbm2ddl.auto", ddlAuto,
+                "hibernate.connection.handling_mode", "DELAYED_ACQUISITION_AND_HOLD"));
+        factory.afterPropertiesSet();
+        return factory;
+    }
+
+    private List<String> usernames(DataSource dataSource) {
+        return new JdbcTemplate(dataSource).queryForList("select username from refresh_token", String.class);
+    }
+}
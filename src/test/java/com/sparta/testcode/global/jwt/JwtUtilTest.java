@@ -5,16 +5,25 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.springframework.test.util.ReflectionTestUtils;
 
+import java.security.KeyPair;
+import java.security.KeyPairGenerator;
+import java.security.spec.ECGenParameterSpec;
+import java.util.Base64;
+import java.util.List;
+
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 class JwtUtilTest {
 
+    private static final String SECRET_KEY = "7Iqk7YyM665L7YqU64uV7J2YIOyXlO2ZlCDquZjsqK3goLgg7J207J6F64uI64ukLg==";
+
     private JwtUtil jwtUtil;
 
     @BeforeEach
     void setUp() {
         jwtUtil = new JwtUtil();
-        ReflectionTestUtils.setField(jwtUtil, "secretKey", "7Iqk7YyM665L7YqU64uV7J2YIOyXlO2ZlCDquZjsqK3goLgg7J207J6F64uI64ukLg==");
+        ReflectionTestUtils.setField(jwtUtil, "secretKey", SECRET_KEY);
         jwtUtil.init();
     }
 
@@ -55,4 +64,107 @@ class JwtUtilTest {
         // then
         assertThat(claims.getSubject()).isEqualTo(username);
     }
+
+    @Test
+    void getUserInfoFromToken_Cached() {
+        // given
+        String token = jwtUtil.createToken("username").substring(7);
+        Claims first = jwtUtil.getUserInfoFromToken(token);
+
+        // when
+        Claims second = jwtUtil.getUserInfoFromToken(token);
+
+        // then
+        assertThat(second).isSameAs(first);
+    }
+
+    @Test
+    void isRevoked() {
+        // given
+        Claims claims = jwtUtil.getUserInfoFromToken(jwtUtil.createToken("username", "session-1").substring(7));
+        Claims otherClaims = jwtUtil.getUserInfoFromToken(jwtUtil.createToken("username", "session-2").substring(7));
+
+        // when
+        jwtUtil.revokeSession("session-1");
+
+        // then
+        assertThat(jwtUtil.isRevoked(claims)).isTrue();
+        assertThat(jwtUtil.isRevoked(otherClaims)).isFalse();
+    }
+
+    @Test
+    void validateToken_Malformed() {
+        // when
+        boolean isValid = jwtUtil.validateToken("malformed.token");
+
+        // then
+        assertThat(isValid).isFalse();
+    }
+
+    @Test
+    void es256_SignsWithKidAndVerifiesRotatedKeys() throws Exception {
+        // given
+        KeyPair oldKey = generateKeyPair();
+        KeyPair newKey = generateKeyPair();
+        JwtUtil oldSigner = es256JwtUtil("old", false, key("old", oldKey, true));
+        String oldToken = oldSigner.createToken("username").substring(7);
+
+        // when
+        JwtUtil rotated = es256JwtUtil("new", false, key("old", oldKey, true), key("new", newKey, true));
+        String newToken = rotated.createToken("username").substring(7);
+
+        // then
+        assertThat(rotated.validateToken(oldToken)).isTrue();
+        assertThat(rotated.validateToken(newToken)).isTrue();
+        assertThat(oldSigner.validateToken(newToken)).isFalse();
+        assertThat(rotated.validateToken(jwtUtil.createToken("username").substring(7))).isTrue();
+    }
+
+    @Test
+    void es256_VerificationOnly() throws Exception {
+        // given
+        KeyPair keyPair = generateKeyPair();
+        JwtUtil signer = es256JwtUtil("k1", false, key("k1", keyPair, true));
+        String token = signer.createToken("username").substring(7);
+
+        // when
+        JwtUtil verifier = es256JwtUtil(null, true, key("k1", keyPair, false));
+
+        // then
+        assertThat(verifier.getUserInfoFromToken(token).getSubject()).isEqualTo("username");
+        assertThat(verifier.validateToken(jwtUtil.createToken("username").substring(7))).isFalse();
+        assertThatThrownBy(() -> verifier.createToken("username"))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private JwtUtil es256JwtUtil(String activeKid, boolean verificationOnly, JwtSigningProperties.Key... keys) {
+        JwtSigningProperties properties = new JwtSigningProperties();
+        properties.setAlgorithm("ES256");
+        properties.setActiveKid(activeKid);
+        properties.setVerificationOnly(verificationOnly);
+        properties.setKeys(List.of(keys));
+
+        JwtUtil es256JwtUtil = new JwtUtil();
+        // 검증 전용 노드는 HS256 비밀키를 갖지 않는다
+        ReflectionTestUtils.setField(es256JwtUtil, "secretKey", verificationOnly ? "" : SECRET_KEY);
+        ReflectionTestUtils.setField(es256JwtUtil, "signingProperties", properties);
+        es256JwtUtil.init();
+        return es256JwtUtil;
+    }
+
+    private JwtSigningProperties.Key key(String kid, KeyPair keyPair, boolean withPrivateKey) {
+        JwtSigningProperties.Key key = new JwtSigningProperties.Key();
+        key.setKid(kid);
+        key.setPublicKey(Base64.getEncoder().encodeToString(keyPair.getPublic().getEncoded()));
+        if (withPrivateKey) {
+            key.setPrivateKey(Base64.getEncoder().encodeToString(keyPair.getPrivate().getEncoded()));
+        }
+        return key;
+    }
+
+    private KeyPair generateKeyPair() throws Exception {
+        KeyPairGenerator generator = KeyPairGenerator.getInstance("EC");
+        generator.initialize(new ECGenParameterSpec("secp256r1"));
+        return generator.generateKeyPair();
+    }
 }
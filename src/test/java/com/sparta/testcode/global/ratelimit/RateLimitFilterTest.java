@@ -0,0 +1,99 @@
+package com.sparta.testcode.global.ratelimit;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimitFilterTest {
+
+    private SimpleMeterRegistry meterRegistry;
+    private RateLimitFilter rateLimitFilter;
+
+    @BeforeEach
+    void setUp() {
+        RateLimitProperties.Route route = new RateLimitProperties.Route();
+        route.setName("board-write");
+        route.setMethods(List.of("post"));
+        route.setPatterns(List.of("/api/boards/**"));
+        route.setLimit(1);
+        route.setPeriod(Duration.ofMinutes(1));
+
+        RateLimitProperties properties = new RateLimitProperties();
+        properties.setRoutes(List.of(route));
+
+        meterRegistry = new SimpleMeterRegistry();
+        rateLimitFilter = new RateLimitFilter(properties, meterRegistry);
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    void rejectsOverLimitWithRetryAfter() throws Exception {
+        // given
+        perform("POST", "/api/boards", "10.0.0.1");
+
+        // when
+        MockHttpServletResponse response = perform("POST", "/api/boards", "10.0.0.1");
+
+        // then
+        assertThat(response.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(response.getHeader(HttpHeaders.RETRY_AFTER)).isEqualTo("60");
+        assertThat(meterRegistry.get("rate.limit.rejected").tag("route", "board-write").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void ignoresUnmatchedRequests() throws Exception {
+        // given
+        perform("POST", "/api/boards", "10.0.0.1");
+
+        // when
+        MockHttpServletResponse read = perform("GET", "/api/boards", "10.0.0.1");
+        MockHttpServletResponse otherPath = perform("POST", "/auth/login", "10.0.0.1");
+
+        // then
+        assertThat(read.getStatus()).isEqualTo(HttpStatus.OK.value());
+        assertThat(otherPath.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    @Test
+    void authenticatedUsersAreLimitedByUsername() throws Exception {
+        // given
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken("user1", null, Collections.emptyList()));
+        perform("POST", "/api/boards/1", "10.0.0.1");
+
+        // when
+        MockHttpServletResponse sameUserOtherIp = perform("POST", "/api/boards/1", "10.0.0.2");
+        SecurityContextHolder.clearContext();
+        MockHttpServletResponse anonymous = perform("POST", "/api/boards/1", "10.0.0.1");
+
+        // then
+        assertThat(sameUserOtherIp.getStatus()).isEqualTo(HttpStatus.TOO_MANY_REQUESTS.value());
+        assertThat(anonymous.getStatus()).isEqualTo(HttpStatus.OK.value());
+    }
+
+    private MockHttpServletResponse perform(String method, String uri, String remoteAddr) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.setRemoteAddr(remoteAddr);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        rateLimitFilter.doFilter(request, response, new MockFilterChain());
+        return response;
+    }
+}
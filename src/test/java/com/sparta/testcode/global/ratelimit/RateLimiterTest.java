@@ -0,0 +1,66 @@
+package com.sparta.testcode.global.ratelimit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class RateLimiterTest {
+
+    private final AtomicLong now = new AtomicLong();
+    private final RateLimiter.Rule rule = new RateLimiter.Rule(3, Duration.ofSeconds(3));
+    private RateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new RateLimiter(1000, Duration.ofMinutes(1), now::get);
+    }
+
+    @Test
+    void allowsBurstUpToLimit() {
+        // when
+        long first = rateLimiter.tryAcquire("ip:1", rule);
+        long second = rateLimiter.tryAcquire("ip:1", rule);
+        long third = rateLimiter.tryAcquire("ip:1", rule);
+        long fourth = rateLimiter.tryAcquire("ip:1", rule);
+
+        // then
+        assertThat(first).isZero();
+        assertThat(second).isZero();
+        assertThat(third).isZero();
+        assertThat(fourth).isEqualTo(TimeUnit.SECONDS.toNanos(1));
+    }
+
+    @Test
+    void refillsOverTime() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:1", rule);
+        }
+
+        // when
+        now.addAndGet(TimeUnit.SECONDS.toNanos(1));
+        long afterOneSecond = rateLimiter.tryAcquire("ip:1", rule);
+        long again = rateLimiter.tryAcquire("ip:1", rule);
+
+        // then
+        assertThat(afterOneSecond).isZero();
+        assertThat(again).isPositive();
+    }
+
+    @Test
+    void keysAreIndependent() {
+        // given
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("user:a", rule);
+        }
+
+        // when & then
+        assertThat(rateLimiter.tryAcquire("user:a", rule)).isPositive();
+        assertThat(rateLimiter.tryAcquire("user:b", rule)).isZero();
+    }
+}
@@ -0,0 +1,145 @@
+package com.sparta.testcode.global.security;
+
+import com.sparta.testcode.domain.user.entity.User;
+import com.sparta.testcode.domain.user.entity.UserRoleEnum;
+import com.sparta.testcode.domain.user.event.UserChangedEvent;
+import com.sparta.testcode.domain.user.repository.UserRepository;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.GrantedAuthority;
+import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UsernameNotFoundException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class UserDetailsServiceImplTest {
+
+    private static final String USERNAME = "테스트유저";
+
+    @Mock
+    private UserRepository userRepository;
+
+    private SimpleMeterRegistry meterRegistry;
+    private UserDetailsServiceImpl userDetailsService;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        userDetailsService = new UserDetailsServiceImpl(userRepository, meterRegistry, 100, Duration.ofMinutes(5));
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void loadUserByUsername_Cached() {
+        // given
+        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(createUser()));
+
+        // when
+        userDetailsService.loadUserByUsername(USERNAME);
+        UserDetails userDetails = userDetailsService.loadUserByUsername(USERNAME);
+
+        // then
+        assertThat(userDetails.getUsername()).isEqualTo(USERNAME);
+        verify(userRepository, times(1)).findByUsername(USERNAME);
+        assertThat(meterRegistry.get("cache.gets").tag("cache", "principal").tag("result", "hit").functionCounter().count())
+                .isEqualTo(1.0);
+    }
+
+    @Test
+    void loadUserByUsername_NotFoundIsNotCached() {
+        // given
+        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.empty());
+
+        // when & then
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(USERNAME))
+                .isInstanceOf(UsernameNotFoundException.class);
+        assertThatThrownBy(() -> userDetailsService.loadUserByUsername(USERNAME))
+                .isInstanceOf(UsernameNotFoundException.class);
+        verify(userRepository, times(2)).findByUsername(USERNAME);
+    }
+
+    @Test
+    void evictUser_AfterCommit() {
+        // given
+        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(createUser()));
+        userDetailsService.loadUserByUsername(USERNAME);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        userDetailsService.evictUser(USERNAME);
+        // 커밋 전에는 캐시가 그대로 남는다
+        userDetailsService.loadUserByUsername(USERNAME);
+        verify(userRepository, times(1)).findByUsername(USERNAME);
+        commit();
+        userDetailsService.loadUserByUsername(USERNAME);
+
+        // then
+        verify(userRepository, times(2)).findByUsername(USERNAME);
+    }
+
+    @Test
+    void onUserChanged_EvictsAfterCommit() {
+        // given
+        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(createUser()));
+        userDetailsService.loadUserByUsername(USERNAME);
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        userDetailsService.onUserChanged(new UserChangedEvent(USERNAME));
+        commit();
+        userDetailsService.loadUserByUsername(USERNAME);
+
+        // then
+        verify(userRepository, times(2)).findByUsername(USERNAME);
+    }
+
+    @Test
+    void loadUserByUsername_CopiesEntityFields() {
+        // given
+        User user = createUser();
+        given(userRepository.findByUsername(USERNAME)).willReturn(Optional.of(user));
+        UserDetails userDetails = userDetailsService.loadUserByUsername(USERNAME);
+
+        // when
+        ReflectionTestUtils.setField(user, "password", "changed-password");
+        ReflectionTestUtils.setField(user, "role", UserRoleEnum.ADMIN);
+
+        // then
+        assertThat(userDetails.getPassword()).isEqualTo("encoded-password");
+        assertThat(userDetails.getAuthorities()).extracting(GrantedAuthority::getAuthority)
+                .containsExactly(UserRoleEnum.USER.getAuthority());
+    }
+
+    private void commit() {
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        TransactionSynchronizationManager.clearSynchronization();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+    }
+
+    private User createUser() {
+        return User.create(USERNAME, "encoded-password", UserRoleEnum.USER);
+    }
+}
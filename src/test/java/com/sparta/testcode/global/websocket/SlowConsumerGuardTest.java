@@ -0,0 +1,228 @@
+package com.sparta.testcode.global.websocket;
+
+import com.sparta.testcode.global.config.ChatTransportProperties;
+import com.sparta.testcode.global.config.ChatTransportProperties.SlowConsumerPolicy;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+import org.mockito.ArgumentCaptor;
+import org.springframework.mock.env.MockEnvironment;
+import org.springframework.web.socket.CloseStatus;
+import org.springframework.web.socket.TextMessage;
+import org.springframework.web.socket.WebSocketHandler;
+import org.springframework.web.socket.WebSocketMessage;
+import org.springframework.web.socket.WebSocketSession;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.timeout;
+import static org.mockito.Mockito.verify;
+
+class SlowConsumerGuardTest {
+
+    private final WebSocketSession session = mock(WebSocketSession.class);
+    private final CountDownLatch sendStarted = new CountDownLatch(1);
+    private final CountDownLatch release = new CountDownLatch(1);
+    private final List<String> sent = new CopyOnWriteArrayList<>();
+    private SimpleMeterRegistry meterRegistry;
+    private SlowConsumerGuard guard;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        guard.destroy();
+    }
+
+    @Test
+    void dropOldest() throws Exception {
+        // given
+        WebSocketSession buffered = connect(SlowConsumerPolicy.DROP_OLDEST, Duration.ofSeconds(10));
+        buffered.sendMessage(frame("TALK", "0"));
+        assertThat(sendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+
+        // when
+        buffered.sendMessage(frame("TALK", "1"));
+        buffered.sendMessage(frame("TALK", "2"));
+        buffered.sendMessage(frame("TALK", "3"));
+
+        // then
+        assertThat(guard.pendingMessages()).isEqualTo(2);
+        assertThat(droppedCount("drop_oldest")).isEqualTo(1.0);
+        release.countDown();
+        awaitSent(3);
+        assertThat(sent).containsExactly("0", "2", "3");
+    }
+
+    @Test
+    void dropNonCritical() throws Exception {
+        // given
+        WebSocketSession buffered = connect(SlowConsumerPolicy.DROP_NON_CRITICAL, Duration.ofSeconds(10));
+        buffered.sendMessage(frame("TALK", "0"));
+        assertThat(sendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        buffered.sendMessage(frame("ENTER", "1"));
+        buffered.sendMessage(frame("TALK", "2"));
+
+        // when
+        buffered.sendMessage(frame("ENTER", "3"));
+        buffered.sendMessage(frame("TALK", "4"));
+
+        // then
+        assertThat(droppedCount("drop_non_critical")).isEqualTo(2.0);
+        release.countDown();
+        awaitSent(3);
+        assertThat(sent).containsExactly("0", "2", "4");
+    }
+
+    @Test
+    void disconnect() throws Exception {
+        // given
+        WebSocketSession buffered = connect(SlowConsumerPolicy.DISCONNECT, Duration.ofSeconds(10));
+        buffered.sendMessage(frame("TALK", "0"));
+        assertThat(sendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        buffered.sendMessage(frame("TALK", "1"));
+        buffered.sendMessage(frame("TALK", "2"));
+
+        // when
+        buffered.sendMessage(frame("TALK", "3"));
+        buffered.sendMessage(frame("TALK", "4"));
+
+        // then
+        verify(session, timeout(1000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(guard.pendingMessages()).isZero();
+        assertThat(meterRegistry.get("chat.websocket.slow.disconnects").counter().count()).isEqualTo(1.0);
+        release.countDown();
+        awaitSent(1);
+        assertThat(sent).containsExactly("0");
+    }
+
+    @Test
+    void closesStalledSendWithoutNewMessages() throws Exception {
+        // given
+        WebSocketSession buffered = connect(SlowConsumerPolicy.DROP_OLDEST, Duration.ofMillis(100));
+
+        // when
+        buffered.sendMessage(frame("TALK", "0"));
+
+        // then
+        assertThat(sendStarted.await(1, TimeUnit.SECONDS)).isTrue();
+        verify(session, timeout(2000)).close(CloseStatus.SESSION_NOT_RELIABLE);
+        assertThat(meterRegistry.get("chat.websocket.slow.disconnects").counter().count()).isEqualTo(1.0);
+    }
+
+    @Test
+    void fastConsumerIsNotDropped() throws Exception {
+        // given
+        release.countDown();
+        WebSocketSession buffered = connect(SlowConsumerPolicy.DISCONNECT, Duration.ofSeconds(10));
+
+        // when
+        for (int i = 0; i < 10; i++) {
+            buffered.sendMessage(frame("TALK", String.valueOf(i)));
+            awaitSent(i + 1);
+        }
+
+        // then
+        assertThat(sent).hasSize(10);
+        verify(session, never()).close(any());
+    }
+
+    @Test
+    void stalledSessionsDoNotDelayHealthySession() throws Exception {
+        // given
+        createGuard(SlowConsumerPolicy.DROP_OLDEST, Duration.ofSeconds(10), 1);
+        CountDownLatch stalledSends = new CountDownLatch(3);
+        for (int i = 0; i < 3; i++) {
+            WebSocketSession stalled = mock(WebSocketSession.class);
+            given(stalled.getId()).willReturn("stalled-" + i);
+            willAnswer(invocation -> {
+                stalledSends.countDown();
+                release.await();
+                return null;
+            }).given(stalled).sendMessage(any(WebSocketMessage.class));
+            register(stalled).sendMessage(frame("TALK", "stalled"));
+        }
+        // 전송 스레드 수(1)보다 많은 세션의 쓰기가 동시에 막혀 있다
+        assertThat(stalledSends.await(1, TimeUnit.SECONDS)).isTrue();
+
+        WebSocketSession healthy = mock(WebSocketSession.class);
+        given(healthy.getId()).willReturn("healthy");
+        CountDownLatch healthySends = new CountDownLatch(5);
+        willAnswer(invocation -> {
+            healthySends.countDown();
+            return null;
+        }).given(healthy).sendMessage(any(WebSocketMessage.class));
+        WebSocketSession buffered = register(healthy);
+
+        // when
+        for (int i = 0; i < 5; i++) {
+            buffered.sendMessage(frame("TALK", String.valueOf(i)));
+        }
+
+        // then
+        assertThat(healthySends.await(500, TimeUnit.MILLISECONDS)).isTrue();
+        verify(healthy, never()).close(any());
+        assertThat(droppedCount("drop_oldest")).isZero();
+    }
+
+    private WebSocketSession connect(SlowConsumerPolicy policy, Duration sendTimeLimit) throws Exception {
+        createGuard(policy, sendTimeLimit, 0);
+
+        given(session.getId()).willReturn("s1");
+        // 클라이언트가 읽지 않아 소켓 쓰기가 막힌 상황을 흉내 낸다
+        willAnswer(invocation -> {
+            sendStarted.countDown();
+            release.await();
+            TextMessage message = invocation.getArgument(0);
+            sent.add(message.getPayload().substring(message.getPayload().indexOf("\n\n") + 2));
+            return null;
+        }).given(session).sendMessage(any(WebSocketMessage.class));
+
+        return register(session);
+    }
+
+    private void createGuard(SlowConsumerPolicy policy, Duration sendTimeLimit, int senderPoolSize) {
+        ChatTransportProperties properties = new ChatTransportProperties();
+        properties.setPolicy(policy);
+        properties.setMaxPendingMessages(2);
+        properties.setDisconnectPendingMessages(10);
+        properties.setSendTimeLimit(sendTimeLimit);
+        properties.setSenderPoolSize(senderPoolSize);
+        meterRegistry = new SimpleMeterRegistry();
+        guard = new SlowConsumerGuard(properties, meterRegistry, new MockEnvironment());
+    }
+
+    private WebSocketSession register(WebSocketSession session) throws Exception {
+        WebSocketHandler handler = mock(WebSocketHandler.class);
+        guard.decorate(handler).afterConnectionEstablished(session);
+        ArgumentCaptor<WebSocketSession> captor = ArgumentCaptor.forClass(WebSocketSession.class);
+        verify(handler).afterConnectionEstablished(captor.capture());
+        return captor.getValue();
+    }
+
+    private TextMessage frame(String type, String body) {
+        return new TextMessage("MESSAGE\ndestination:/topic/chat/room/1\n"
+                + SlowConsumerGuard.CHAT_TYPE_HEADER + ":" + type + "\n\n" + body);
+    }
+
+    private double droppedCount(String policy) {
+        return meterRegistry.get("chat.websocket.outbound.dropped").tag("policy", policy).counter().count();
+    }
+
+    private void awaitSent(int count) throws InterruptedException {
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(2);
+        while (sent.size() < count && System.nanoTime() < deadline) {
+            Thread.sleep(10);
+        }
+        assertThat(sent).hasSizeGreaterThanOrEqualTo(count);
+    }
+}